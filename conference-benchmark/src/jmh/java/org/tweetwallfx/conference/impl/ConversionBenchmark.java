@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tweetwallfx.conference.api.Identifiable;
+import org.tweetwallfx.conference.api.RatedTalk;
+import org.tweetwallfx.conference.api.Room;
+import org.tweetwallfx.conference.api.ScheduleSlot;
+import org.tweetwallfx.conference.api.SessionType;
+import org.tweetwallfx.conference.api.Speaker;
+import org.tweetwallfx.conference.api.Talk;
+import org.tweetwallfx.conference.api.Track;
+
+/**
+ * Benchmarks the conversion of the recorded conference API payloads into the
+ * domain objects as done on every refresh of the conference client.
+ *
+ * <p>
+ * Every operation starts a new {@link DecodingGeneration} so objects are not
+ * shared across operations. Run with {@code gradlew jmh} which includes the GC
+ * profiler reporting the allocation per operation.
+ *
+ * <p>
+ * The {@code ...ViaMaps} benchmarks are the baseline: they read the same
+ * payloads into plain maps and lists and convert these with
+ * {@link MapConversion} as the client did before decoding while streaming.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final JsonReaderFactory READER_FACTORY = Json.createReaderFactory(Map.of());
+    private ConferenceJsonDecoder decoder;
+    private MapConversion mapConversion;
+    private Map<String, Integer> favoriteCounts;
+    private Map<String, Talk> talkIndex;
+    private byte[] scheduleSlots;
+    private byte[] speakers;
+    private byte[] talks;
+    private Map<String, Object> votingResults;
+    private Map<String, Object> talksStats;
+
+    @Setup
+    public void setUp() {
+        final Map<String, SessionType> sessionTypes = byId(ConferenceJsonDecoder.decodeSessionTypes(new ByteArrayInputStream(payload("session-types.json"))));
+        final Map<String, Room> rooms = byId(ConferenceJsonDecoder.decodeRooms(new ByteArrayInputStream(payload("rooms.json"))));
+        final Map<String, Track> tracks = byId(ConferenceJsonDecoder.decodeTracks(new ByteArrayInputStream(payload("tracks.json"))));
+        decoder = new ConferenceJsonDecoder(sessionTypes, rooms, tracks);
+        mapConversion = new MapConversion(sessionTypes, rooms, tracks);
+        scheduleSlots = payload("schedule-friday.json");
+        speakers = payload("speakers.json");
+        talks = payload("talks.json");
+        talksStats = toMap(payload("talks-stats.json"));
+        votingResults = toMap(payload("voting-results-friday.json"));
+        favoriteCounts = ConferenceClientImpl.convertTalksStats(talksStats);
+        talkIndex = byId(decoder.decodeTalks(new ByteArrayInputStream(talks), new DecodingGeneration(favoriteCounts)));
+    }
+
+    @Benchmark
+    public List<ScheduleSlot> convertScheduleSlot() {
+        return decoder.decodeScheduleSlots(new ByteArrayInputStream(scheduleSlots), new DecodingGeneration(favoriteCounts));
+    }
+
+    @Benchmark
+    public List<Speaker> convertSpeaker() {
+        return decoder.decodeSpeakers(new ByteArrayInputStream(speakers), new DecodingGeneration(favoriteCounts));
+    }
+
+    @Benchmark
+    public List<Talk> convertTalk() {
+        return decoder.decodeTalks(new ByteArrayInputStream(talks), new DecodingGeneration(favoriteCounts));
+    }
+
+    @Benchmark
+    public List<ScheduleSlot> convertScheduleSlotViaMaps() {
+        return toMaps(scheduleSlots).stream()
+                .map(m -> mapConversion.convertScheduleSlot(m, favoriteCounts))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Speaker> convertSpeakerViaMaps() {
+        return toMaps(speakers).stream()
+                .map(m -> mapConversion.convertSpeaker(m, favoriteCounts))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Talk> convertTalkViaMaps() {
+        return toMaps(talks).stream()
+                .map(m -> mapConversion.convertTalk(m, favoriteCounts))
+                .toList();
+    }
+
+    @Benchmark
+    public Map<String, Integer> convertTalksStats() {
+        return ConferenceClientImpl.convertTalksStats(talksStats);
+    }
+
+    @Benchmark
+    public List<RatedTalk> convertVotingResults() {
+        return ConferenceClientImpl.convertVotingResults(votingResults, talkIndex::get);
+    }
+
+    private static <T extends Identifiable> Map<String, T> byId(final List<T> identifiables) {
+        return identifiables.stream()
+                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
+    }
+
+    private static byte[] payload(final String name) {
+        try (InputStream in = ConversionBenchmark.class.getResourceAsStream("/payloads/" + name)) {
+            return in.readAllBytes();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    // reads the payload into plain maps, lists and values as the stats API responses are converted from
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(final byte[] payload) {
+        try (JsonReader reader = READER_FACTORY.createReader(new ByteArrayInputStream(payload))) {
+            return (Map<String, Object>) toObject(reader.readObject());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> toMaps(final byte[] payload) {
+        try (JsonReader reader = READER_FACTORY.createReader(new ByteArrayInputStream(payload))) {
+            return (List<Map<String, Object>>) toObject(reader.readArray());
+        }
+    }
+
+    private static Object toObject(final JsonValue value) {
+        return switch (value.getValueType()) {
+            case OBJECT -> {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                ((JsonObject) value).forEach((key, nested) -> map.put(key, toObject(nested)));
+                yield map;
+            }
+            case ARRAY -> value.asJsonArray().stream()
+                    .map(ConversionBenchmark::toObject)
+                    .toList();
+            case STRING -> ((JsonString) value).getString();
+            case NUMBER -> ((JsonNumber) value).numberValue();
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case NULL -> null;
+        };
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.tweetwallfx.conference.api.Room;
+import org.tweetwallfx.conference.api.ScheduleSlot;
+import org.tweetwallfx.conference.api.SessionType;
+import org.tweetwallfx.conference.api.Speaker;
+import org.tweetwallfx.conference.api.Talk;
+import org.tweetwallfx.conference.api.Track;
+import org.tweetwallfx.conference.spi.DateTimeRangeImpl;
+import org.tweetwallfx.conference.spi.ScheduleSlotImpl;
+import org.tweetwallfx.conference.spi.SpeakerImpl;
+import org.tweetwallfx.conference.spi.TalkImpl;
+
+/**
+ * The conversion of the conference API payloads from plain maps, lists and
+ * values as done before {@link ConferenceJsonDecoder} decoded them while
+ * streaming. Serves as the baseline of {@link ConversionBenchmark}.
+ */
+final class MapConversion {
+
+    private final Map<String, SessionType> sessionTypes;
+    private final Map<String, Room> rooms;
+    private final Map<String, Track> tracks;
+
+    MapConversion(final Map<String, SessionType> sessionTypes, final Map<String, Room> rooms, final Map<String, Track> tracks) {
+        this.sessionTypes = sessionTypes;
+        this.rooms = rooms;
+        this.tracks = tracks;
+    }
+
+    @SuppressWarnings("unchecked")
+    ScheduleSlot convertScheduleSlot(final Map<String, Object> input, final Map<String, Integer> favoriteCounts) {
+        return ScheduleSlotImpl.builder()
+                .withId(retrieveValue(input, "id", Number.class, Number::toString))
+                .withOverflow(retrieveValue(input, "overflow", Boolean.class))
+                .withDateTimeRange(DateTimeRangeImpl.builder()
+                        .withEnd(retrieveValue(input, "toDate", String.class, Instant::parse))
+                        .withStart(retrieveValue(input, "fromDate", String.class, Instant::parse))
+                        .build())
+                .withFavoriteCount(retrieveValue(input, "totalFavourites", Number.class, Number::intValue))
+                .withRoom(rooms.get(alternatives(
+                        retrieveValue(input, "roomId", Number.class, Number::toString),
+                        retrieveValue(input, "room", Map.class,
+                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
+                .withTalk(retrieveValue(input, "proposal", Map.class,
+                        m -> convertTalk((Map<String, Object>) m, favoriteCounts)))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    Speaker convertSpeaker(final Map<String, Object> input, final Map<String, Integer> favoriteCounts) {
+        final SpeakerImpl.Builder builder = SpeakerImpl.builder()
+                .withId(retrieveValue(input, "id", Number.class, Number::toString))
+                .withFirstName(retrieveValue(input, "firstName", String.class, String::trim))
+                .withLastName(retrieveValue(input, "lastName", String.class, String::trim))
+                .withFullName(String.format("%s %s",
+                        retrieveValue(input, "firstName", String.class, String::trim),
+                        retrieveValue(input, "lastName", String.class, String::trim)))
+                .withCompany(retrieveValue(input, "company", String.class, String::trim))
+                .withAvatarURL(retrieveValue(input, "imageUrl", String.class))
+                .withTalks(retrieveValue(input, "talks", List.class,
+                        list -> ((List<?>) list).stream()
+                                .map(o -> (Map<String, Object>) o)
+                                .map(m -> convertTalk(m, favoriteCounts))
+                                .toList()));
+
+        Map.of(
+                "twitterHandle", "twitter",
+                "linkedInUsername", "linkedin",
+                "blueskyUsername", "bluesky",
+                "mastodonUsername", "mastodon"
+        ).forEach((jsonKey, socialMediaName) -> {
+            final String handle = retrieveValue(input, jsonKey, String.class, String::trim);
+            if (null != handle && !handle.isBlank()) {
+                builder.addSocialMedia(socialMediaName, handle);
+            }
+        });
+
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    Talk convertTalk(final Map<String, Object> input, final Map<String, Integer> favoriteCounts) {
+        final String talkId = retrieveValue(input, "id", Number.class, Number::toString);
+        return TalkImpl.builder()
+                .withId(talkId)
+                .withName(retrieveValue(input, "title", String.class))
+                .withAudienceLevel(retrieveValue(input, "audienceLevel", String.class))
+                .withSessionType(sessionTypes.get(alternatives(
+                        retrieveValue(input, "sessionTypeId", Number.class, Number::toString),
+                        retrieveValue(input, "sessionType", Map.class,
+                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
+                .withFavoriteCount(alternatives(
+                        favoriteCounts.get(talkId),
+                        retrieveValue(input, "totalFavourites", Number.class, Number::intValue)))
+                .withLanguage(Locale.ENGLISH)
+                .withScheduleSlots(retrieveValue(input, "timeSlots", List.class,
+                        list -> ((List<?>) list).stream()
+                                .map(o -> (Map<String, Object>) o)
+                                .map(m -> convertScheduleSlot(m, favoriteCounts))
+                                .toList()))
+                .withSpeakers(retrieveValue(input, "speakers", List.class,
+                        list -> ((List<?>) list).stream()
+                                .map(o -> (Map<String, Object>) o)
+                                .map(m -> convertSpeaker(m, favoriteCounts))
+                                .toList()))
+                .withTags(retrieveValue(input, "tags", List.class,
+                        list -> ((List<?>) list).stream()
+                                .map(o -> (Map<String, Object>) o)
+                                .map(m -> retrieveValue(m, "name", String.class))
+                                .toList()))
+                .withTrack(tracks.get(alternatives(
+                        retrieveValue(input, "trackId", Number.class, Number::toString),
+                        retrieveValue(input, "track", Map.class,
+                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
+                .build();
+    }
+
+    private static <T> T retrieveValue(final Map<String, Object> data, final String key, final Class<T> type) {
+        return type.cast(data.get(key));
+    }
+
+    private static <T, R> R retrieveValue(final Map<String, Object> data, final String key, final Class<T> type,
+            final Function<T, R> converter) {
+        final T t = retrieveValue(data, key, type);
+        return null == t
+                ? null
+                : converter.apply(t);
+    }
+
+    @SafeVarargs
+    private static <T> T alternatives(final T... ts) {
+        for (T t : ts) {
+            if (null != t) {
+                return t;
+            }
+        }
+
+        return null;
+    }
+}
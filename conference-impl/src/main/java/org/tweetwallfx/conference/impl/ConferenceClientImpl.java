@@ -23,10 +23,9 @@
  */
 package org.tweetwallfx.conference.impl;
 
-import java.net.URI;
+import java.io.InputStream;
 import java.time.DayOfWeek;
 import java.time.Duration;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.TextStyle;
@@ -36,9 +35,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
@@ -47,7 +50,6 @@ import jakarta.ws.rs.core.GenericType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.tweetwallfx.cache.TimeToForgetCache;
 import org.tweetwallfx.conference.api.ConferenceClient;
 import org.tweetwallfx.conference.api.Identifiable;
 import org.tweetwallfx.conference.api.RatedTalk;
@@ -58,14 +60,7 @@ import org.tweetwallfx.conference.api.SessionType;
 import org.tweetwallfx.conference.api.Speaker;
 import org.tweetwallfx.conference.api.Talk;
 import org.tweetwallfx.conference.api.Track;
-import org.tweetwallfx.conference.spi.DateTimeRangeImpl;
 import org.tweetwallfx.conference.spi.RatedTalkImpl;
-import org.tweetwallfx.conference.spi.RoomImpl;
-import org.tweetwallfx.conference.spi.ScheduleSlotImpl;
-import org.tweetwallfx.conference.spi.SessionTypeImpl;
-import org.tweetwallfx.conference.spi.SpeakerImpl;
-import org.tweetwallfx.conference.spi.TalkImpl;
-import org.tweetwallfx.conference.spi.TrackImpl;
 import org.tweetwallfx.conference.spi.util.RestCallHelper;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.util.ExpiringValue;
@@ -82,42 +77,90 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
     );
 
     private final ConferenceClientSettings config;
-    private final Map<String, SessionType> sessionTypes;
-    private final Map<String, Room> rooms;
-    private final Map<String, Track> tracks;
-    private final ExpiringValue<Map<String, Integer>> talkFavoriteCounts;
-    private final ExpiringValue<Map<WeekDay, List<RatedTalk>>> ratedTalks;
+    private final PayloadCache payloads = new PayloadCache(this::onPayloadModification);
+    private final ConferenceSnapshot snapshot;
+    private final ExpiringValue<Map<String, Talk>> talkIndex;
+    private final RefreshAheadValue<Map<String, Integer>> talkFavoriteCounts;
+    private final RefreshAheadValue<Map<WeekDay, List<RatedTalk>>> ratedTalks;
+    private final AtomicReference<DecodingGeneration> generation = new AtomicReference<>();
+    /**
+     * The modification count of the payloads when unscheduled talks were last
+     * evicted.
+     */
+    private final AtomicLong talkEvictionModificationCount = new AtomicLong(-1);
+    private volatile Map<String, SessionType> sessionTypes;
+    private volatile Map<String, Room> rooms;
+    private volatile Map<String, Track> tracks;
+    private volatile ConferenceJsonDecoder decoder;
 
-    @SuppressWarnings("unchecked")
     public ConferenceClientImpl() {
         this.config = Configuration.getInstance().getConfigTyped(
                 ConferenceClientSettings.CONFIG_KEY,
                 ConferenceClientSettings.class);
-        this.sessionTypes = TimeToForgetCache.INSTANCE_60M.getJsonList(URI.create(config.getEventBaseUri() + "session-types"))
-                .stream()
-                .map(o -> (Map<String, Object>) o)
-                .map(this::convertSessionType)
-                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
-        LOG.info("SessionType IDs: {}", sessionTypes.keySet());
-        this.rooms = TimeToForgetCache.INSTANCE_60M.getJsonList(URI.create(config.getEventBaseUri() + "rooms"))
-                .stream()
-                .map(o -> (Map<String, Object>) o)
-                .map(this::convertRoom)
-                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
-        LOG.info("Room IDs: {}", rooms.keySet());
-        this.tracks = TimeToForgetCache.INSTANCE_60M.getJsonList(URI.create(config.getEventBaseUri() + "tracks"))
-                .stream()
-                .map(o -> (Map<String, Object>) o)
-                .map(this::convertTrack)
-                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
-        LOG.info("Track IDs: {}", tracks.keySet());
-        this.ratedTalks = new ExpiringValue<>(this::getVotingResults, Duration.ofSeconds(60));
-        this.talkFavoriteCounts = new ExpiringValue<>(this::getTalkFavoriteCounts, Duration.ofMinutes(5));
+        this.talkIndex = new ExpiringValue<>(this::getTalkIndex, Duration.ofMinutes(15));
+        this.ratedTalks = new RefreshAheadValue<>("ratedTalks",
+                () -> requestSnapshotWrite(getVotingResults()), Duration.ofSeconds(60), Map.of());
+        this.talkFavoriteCounts = new RefreshAheadValue<>("talkFavoriteCounts",
+                () -> requestSnapshotWrite(getTalkFavoriteCounts()), Duration.ofMinutes(5), Map.of());
+
+        // start off the last good data so the client is usable even while the event API is slow or unreachable
+        this.snapshot = new ConferenceSnapshot(config.getSnapshotFile(), payloads, this::getSnapshotRatings);
+        final Optional<ConferenceSnapshot.Ratings> restoredRatings = snapshot.restore();
+        restoredRatings.ifPresent(ratings -> talkFavoriteCounts.seed(ratings.favoriteCounts()));
+
+        // favorite counts do not depend on the reference data and are filled in lazily
+        talkFavoriteCounts.refreshInBackground();
+
+        loadAllReferenceData();
+
+        restoredRatings.ifPresent(ratings -> ratedTalks.seed(convertSnapshotVotingResults(ratings.votingResults())));
+        if (restoredRatings.isPresent()) {
+            // restored reference data is reconciled with the event API in the background
+            Thread.ofVirtual().name("conferenceSnapshot-reconcile").start(this::reconcileReferenceData);
+        }
 
-        // trigger initialization of ratedTalks
-        LOG.trace("Initialized ratedTalks: {}", ratedTalks.getValue());
-        // trigger initialization of talkFavoriteCounts
-        LOG.trace("Initialized talkFavoriteCounts: {}", talkFavoriteCounts.getValue());
+        // rated talks require the reference data and are filled in lazily
+        ratedTalks.refreshInBackground();
+    }
+
+    private void loadAllReferenceData() {
+        // load the reference data concurrently as the client is usable as soon as all of it is available
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final CompletableFuture<Map<String, SessionType>> sessionTypesFuture = CompletableFuture.supplyAsync(
+                    () -> loadReferenceData("session-types", ConferenceJsonDecoder::decodeSessionTypes), executor);
+            final CompletableFuture<Map<String, Room>> roomsFuture = CompletableFuture.supplyAsync(
+                    () -> loadReferenceData("rooms", ConferenceJsonDecoder::decodeRooms), executor);
+            final CompletableFuture<Map<String, Track>> tracksFuture = CompletableFuture.supplyAsync(
+                    () -> loadReferenceData("tracks", ConferenceJsonDecoder::decodeTracks), executor);
+
+            this.sessionTypes = sessionTypesFuture.join();
+            this.rooms = roomsFuture.join();
+            this.tracks = tracksFuture.join();
+        }
+
+        this.decoder = new ConferenceJsonDecoder(sessionTypes, rooms, tracks);
+    }
+
+    private void reconcileReferenceData() {
+        final long contentVersion = payloads.contentVersion();
+        List.of("session-types", "rooms", "tracks")
+                .forEach(path -> payloads.refresh(config.getEventBaseUri() + path));
+
+        if (contentVersion != payloads.contentVersion()) {
+            LOG.info("Reference data changed since the snapshot was taken");
+            loadAllReferenceData();
+        }
+    }
+
+    private void onPayloadModification() {
+        // payloads are only modified after the snapshot has been restored
+        snapshot.requestWrite();
+    }
+
+    private <T> T requestSnapshotWrite(final T loadedValue) {
+        // unchanged ratings do not cause the snapshot to be written
+        snapshot.requestWrite();
+        return loadedValue;
     }
 
     @Override
@@ -136,57 +179,85 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<ScheduleSlot> getSchedule(final String conferenceDay) {
-        return TimeToForgetCache.INSTANCE_15M.getJsonList(URI.create(config.getEventBaseUri() + "schedules/" + conferenceDay))
-                .stream()
-                .map(o -> (Map<String, Object>) o)
-                .map(this::convertScheduleSlot)
-                .toList();
+        final List<ScheduleSlot> scheduleSlots = payloads.get(config.getEventBaseUri() + "schedules/" + conferenceDay, Duration.ofMinutes(15))
+                .map(payload -> decodeList(payload, decoder::decodeScheduleSlots))
+                .orElseGet(List::of);
+        evictUnscheduledTalks();
+        return scheduleSlots;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<ScheduleSlot> getSchedule(final String conferenceDay, final String roomName) {
-        return TimeToForgetCache.INSTANCE_15M.getJsonList(URI.create(config.getEventBaseUri() + "schedules/" + conferenceDay + '/' + roomName))
-                .stream()
-                .map(o -> (Map<String, Object>) o)
-                .map(this::convertScheduleSlot)
-                .toList();
+        final List<ScheduleSlot> scheduleSlots = payloads.get(config.getEventBaseUri() + "schedules/" + conferenceDay + '/' + roomName, Duration.ofMinutes(15))
+                .map(payload -> decodeList(payload, decoder::decodeScheduleSlots))
+                .orElseGet(List::of);
+        evictUnscheduledTalks();
+        return scheduleSlots;
+    }
+
+    /**
+     * Evicts the cached payloads of single talks not referenced by any of the
+     * cached schedules, so that they are neither kept nor written to the
+     * snapshot forever. Only done once the payloads changed since the last
+     * eviction.
+     */
+    private void evictUnscheduledTalks() {
+        final long modificationCount = payloads.modificationCount();
+
+        if (modificationCount == talkEvictionModificationCount.getAndSet(modificationCount)) {
+            return;
+        }
+
+        final String schedulesUri = config.getEventBaseUri() + "schedules/";
+        final String talksUri = config.getEventBaseUri() + "talks/";
+        final Set<String> scheduledTalkUrls = payloads.urls().stream()
+                .filter(url -> url.startsWith(schedulesUri))
+                .map(payloads::peek)
+                .flatMap(Optional::stream)
+                .map(payload -> decodeList(payload, decoder::decodeScheduleSlots))
+                .flatMap(List::stream)
+                .map(ScheduleSlot::getTalk)
+                .flatMap(Optional::stream)
+                .map(talk -> talksUri + talk.getId())
+                .collect(Collectors.toSet());
+
+        if (scheduledTalkUrls.isEmpty()) {
+            // no schedule known to tell the talks still needed
+            return;
+        }
+
+        final int evicted = payloads.evictIf(url -> url.startsWith(talksUri) && !scheduledTalkUrls.contains(url));
+        if (0 < evicted) {
+            LOG.info("Evicted {} talks no longer scheduled", evicted);
+            talkEvictionModificationCount.set(payloads.modificationCount());
+        }
     }
 
     @Override
     public List<Speaker> getSpeakers() {
-        return RestCallHelper
-                .readOptionalFrom(config.getEventBaseUri() + "speakers", listOfMaps(), (a, b) -> {
-                    a.addAll(b);
-                    return a;
-                })
-                .orElse(List.of())
-                .stream()
-                .map(this::convertSpeaker)
-                .toList();
+        return payloads.revalidate(config.getEventBaseUri() + "speakers")
+                .map(payload -> decodeList(payload, decoder::decodeSpeakers))
+                .orElseGet(List::of);
     }
 
     @Override
     public Optional<Speaker> getSpeaker(final String speakerId) {
-        return RestCallHelper.readOptionalFrom(config.getEventBaseUri() + "speakers/" + speakerId, map())
-                .map(this::convertSpeaker);
+        return payloads.fetch(config.getEventBaseUri() + "speakers/" + speakerId)
+                .map(payload -> decode(payload, decoder::decodeSpeaker));
     }
 
     @Override
     public List<Talk> getTalks() {
-        return RestCallHelper.readOptionalFrom(config.getEventBaseUri() + "talks", listOfMaps())
-                .orElse(List.of())
-                .stream()
-                .map(this::convertTalk)
-                .toList();
+        return payloads.revalidate(config.getEventBaseUri() + "talks")
+                .map(payload -> decodeList(payload, decoder::decodeTalks))
+                .orElseGet(List::of);
     }
 
     @Override
     public Optional<Talk> getTalk(final String talkId) {
-        Map<String, Object> jsonMap = TimeToForgetCache.INSTANCE_15M.getJsonMap(URI.create(config.getEventBaseUri() + "talks/" + talkId));
-        return Optional.of(convertTalk(jsonMap));
+        return payloads.get(config.getEventBaseUri() + "talks/" + talkId, Duration.ofMinutes(15))
+                .map(payload -> decode(payload, decoder::decodeTalk));
     }
 
     @Override
@@ -194,6 +265,26 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
         return List.copyOf(tracks.values());
     }
 
+    private <T> T decode(final PayloadCache.Payload payload, final BiFunction<InputStream, DecodingGeneration, T> converter) {
+        final DecodingGeneration currentGeneration = currentGeneration();
+        return payload.decode(in -> converter.apply(in, currentGeneration));
+    }
+
+    private <T> List<T> decodeList(final PayloadCache.Payload payload, final BiFunction<InputStream, DecodingGeneration, List<T>> converter) {
+        final DecodingGeneration currentGeneration = currentGeneration();
+        // the decoded elements only depend on the payload content and the favourite counts, so changes of other
+        // payloads must not drop them; the generation is only used to share instances and strings while decoding
+        return payload.decodeList(currentGeneration.favoriteCounts(), in -> converter.apply(in, currentGeneration));
+    }
+
+    private DecodingGeneration currentGeneration() {
+        final Map<String, Integer> favoriteCounts = talkFavoriteCounts.getValue();
+        final long contentVersion = payloads.contentVersion();
+        return generation.updateAndGet(current -> null != current && current.isCurrent(favoriteCounts, contentVersion)
+                ? current
+                : new DecodingGeneration(favoriteCounts, contentVersion));
+    }
+
     private Optional<ConferenceClientSettings> getRatingClientEnabledConfig() {
         return Optional.of(config)
                 .filter(ccs -> Objects.nonNull(ccs.getEventStatsBaseUri()))
@@ -213,6 +304,7 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
             return randomizedRatedTalks();
         } else {
             final Map<WeekDay, List<RatedTalk>> votingResults = ratedTalks.getValue();
+            LOG.debug("Using voting results with age {}", ratedTalks.getAge().orElse(null));
 
             return votingResults.entrySet().stream()
                     .filter(e -> e.getKey().dayId().equals(conferenceDay))
@@ -242,9 +334,7 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
 
     private List<RatedTalk> randomizedRatedTalks() {
         LOG.debug("######## randomizedRatedTalks");
-        return RestCallHelper.readOptionalFrom(config.getEventBaseUri() + "talks", listOfMaps())
-                .orElse(List.of())
-                .stream()
+        return getTalks().stream()
                 .filter(talk -> RandomGenerator.getDefault().nextBoolean())
                 .map(this::convertTalkToRatedTalk)
                 .toList();
@@ -261,42 +351,103 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
 
         return getRatingClientEnabledConfig()
                 .filter(_ -> CONFERENCE_DAYS.contains(todayDOW))
-                .map(_ -> activeConferenceDays
-                .parallelStream()
-                .map(WeekDay::of)
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        day -> RestCallHelper
-                                .getOptionalResponse(
-                                        config.getEventStatsBaseUri() + "getAllRatingStats",
-                                        Map.of(
-                                                "eventSlug", "dvbe25",
-                                                "day", day.dayId(),
-                                                "token", config.getEventStatsToken()))
-                                .flatMap(r -> RestCallHelper.readOptionalFrom(r, map()))
-                                .map(this::convertVotingResults)
-                                .orElseGet(List::of))))
+                .map(_ -> {
+                    // resolve rated talks against one snapshot of the talk index for all days
+                    final Map<String, Talk> talks = talkIndex.getValue();
+                    return activeConferenceDays
+                            .parallelStream()
+                            .map(WeekDay::of)
+                            .collect(Collectors.toMap(
+                                    Function.identity(),
+                                    day -> RestCallHelper
+                                            .getOptionalResponse(
+                                                    config.getEventStatsBaseUri() + "getAllRatingStats",
+                                                    Map.of(
+                                                            "eventSlug", "dvbe25",
+                                                            "day", day.dayId(),
+                                                            "token", config.getEventStatsToken()))
+                                            .flatMap(r -> RestCallHelper.readOptionalFrom(r, map()))
+                                            .map(votingResults -> convertVotingResults(votingResults,
+                                                    talkId -> resolveRatedTalk(talks, talkId)))
+                                            .orElseThrow(() -> new IllegalStateException(
+                                                    "Failed to load voting results for " + day))));
+                })
                 .orElseGet(Map::of);
     }
 
+    private <T extends Identifiable> Map<String, T> loadReferenceData(final String path,
+            final Function<InputStream, List<T>> converter) {
+        final Map<String, T> result = payloads.get(config.getEventBaseUri() + path, Duration.ofMinutes(60))
+                .map(payload -> payload.decodeList(converter))
+                .orElseGet(List::of)
+                .stream()
+                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
+        LOG.info("Loaded {} with IDs: {}", path, result.keySet());
+        return result;
+    }
+
+    private Map<String, Talk> getTalkIndex() {
+        LOG.info("Loading talk index");
+        final Map<String, Talk> result = indexTalks(getTalks());
+        LOG.info("Loaded talk index with {} talks", result.size());
+        return result;
+    }
+
+    private static Map<String, Talk> indexTalks(final List<Talk> talks) {
+        return talks.stream()
+                .collect(Collectors.toMap(Talk::getId, Function.identity(), (a, _) -> a));
+    }
+
     private Map<String, Integer> getTalkFavoriteCounts() {
         LOG.info("Loading TalksFavoriteCounts");
         return getRatingClientEnabledConfig()
-                .flatMap(
-                        _ignored -> RestCallHelper.postOptionalResponse(
+                .map(_ignored -> RestCallHelper.postOptionalResponse(
                                 config.getEventStatsBaseUri() + "getAllFavoriteCounts",
                                 Map.of(),
                                 Entity.json(Map.of(
                                         "data", Map.of(
-                                                "eventSlug", "dvbe25")))))
-                .flatMap(r -> RestCallHelper.readOptionalFrom(r, map()))
-                .map(this::convertTalksStats)
+                                                "eventSlug", "dvbe25"))))
+                        .flatMap(r -> RestCallHelper.readOptionalFrom(r, map()))
+                        .map(ConferenceClientImpl::convertTalksStats)
+                        .orElseThrow(() -> new IllegalStateException("Failed to load TalksFavoriteCounts")))
                 .orElseGet(Map::of);
     }
 
-    private static GenericType<List<Map<String, Object>>> listOfMaps() {
-        return new GenericType<List<Map<String, Object>>>() {
-        };
+    private ConferenceSnapshot.Ratings getSnapshotRatings() {
+        return new ConferenceSnapshot.Ratings(
+                talkFavoriteCounts.peek(),
+                ratedTalks.peek().entrySet().stream()
+                        .collect(Collectors.toMap(
+                                e -> e.getKey().dayId(),
+                                e -> e.getValue().stream()
+                                        .map(ratedTalk -> new ConferenceSnapshot.Rating(
+                                                ratedTalk.getTalk().getId(),
+                                                ratedTalk.getAverageRating(),
+                                                ratedTalk.getTotalRating()))
+                                        .toList())));
+    }
+
+    private Map<WeekDay, List<RatedTalk>> convertSnapshotVotingResults(final Map<String, List<ConferenceSnapshot.Rating>> votingResults) {
+        if (votingResults.isEmpty()) {
+            return Map.of();
+        }
+
+        // only the restored talks, as the talk index would block the constructor on the event API
+        final Map<String, Talk> talks = indexTalks(payloads.peek(config.getEventBaseUri() + "talks")
+                .map(payload -> decodeList(payload, decoder::decodeTalks))
+                .orElseGet(List::of));
+        return votingResults.entrySet().stream()
+                .collect(Collectors.toMap(
+                        e -> new WeekDay(e.getKey()),
+                        e -> e.getValue().stream()
+                                // talks no longer known are dropped until the voting results are reloaded
+                                .filter(rating -> talks.containsKey(rating.talkId()))
+                                .map(rating -> RatedTalkImpl.builder()
+                                        .withAverageRating(rating.averageRating())
+                                        .withTotalRating(rating.totalRatings())
+                                        .withTalk(talks.get(rating.talkId()))
+                                        .build())
+                                .toList()));
     }
 
     private static GenericType<Map<String, Object>> map() {
@@ -304,19 +455,34 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
         };
     }
 
+    /**
+     * Converts the voting results of a single day.
+     *
+     * @param input the voting results as returned by the stats API
+     * @param talks resolves the rated talks by their ID
+     *
+     * @return the rated talks
+     */
     @SuppressWarnings("unchecked")
-    private List<RatedTalk> convertVotingResults(final Map<String, Object> input) {
-        LOG.info("Converting VotingResults: {}", input);
+    static List<RatedTalk> convertVotingResults(final Map<String, Object> input, final Function<String, Talk> talks) {
+        LOG.debug("Converting VotingResults: {}", input);
         return retrieveValue(input, "talkRatings", List.class,
-                talkRatings -> ((List<?>) talkRatings).parallelStream()
+                talkRatings -> ((List<?>) talkRatings).stream()
                         .map(o -> (Map<String, Object>) o)
-                        .map(this::convertRatedTalk)
+                        .map(o -> convertRatedTalk(o, talks))
                         .toList());
     }
 
+    /**
+     * Converts the favourite counts of all talks.
+     *
+     * @param input the talk stats as returned by the stats API
+     *
+     * @return the favourite counts by talk ID
+     */
     @SuppressWarnings("unchecked")
-    private Map<String, Integer> convertTalksStats(final Map<String, Object> input) {
-        LOG.info("Converting TalksStats: {}", input);
+    static Map<String, Integer> convertTalksStats(final Map<String, Object> input) {
+        LOG.debug("Converting TalksStats: {}", input);
         final Map<String, Integer> result = retrieveValue(input, "result", Map.class,
                 r -> retrieveValue((Map<String, Object>) r, "talkFavorites", List.class,
                         talkFavorites -> (List<?>) talkFavorites).stream()
@@ -329,153 +495,32 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
         return result;
     }
 
-    private RatedTalk convertTalkToRatedTalk(final Map<String, Object> input) {
-        LOG.debug("Converting Talk to RatedTalk: {}", input);
+    private RatedTalk convertTalkToRatedTalk(final Talk talk) {
+        LOG.debug("Converting Talk to RatedTalk: {}", talk);
         return RatedTalkImpl.builder()
                 .withAverageRating(RandomGenerator.getDefault().nextDouble(5))
                 .withTotalRating(RandomGenerator.getDefault().nextInt(200))
-                .withTalk(convertTalk(input))
+                .withTalk(talk)
                 .build();
     }
 
-    private RatedTalk convertRatedTalk(final Map<String, Object> input) {
+    private static RatedTalk convertRatedTalk(final Map<String, Object> input, final Function<String, Talk> talks) {
         LOG.debug("Converting to RatedTalk: {}", input);
         return RatedTalkImpl.builder()
                 .withAverageRating(retrieveValue(input, "averageRating", Number.class, Number::doubleValue))
                 .withTotalRating(retrieveValue(input, "totalRatings", Number.class, Number::intValue))
-                .withTalk(retrieveValue(input, "talkId", String.class,
-                        talkId -> getTalk(talkId).get()))
-                .build();
-    }
-
-    private Room convertRoom(final Map<String, Object> input) {
-        LOG.debug("Converting to Room: {}", input);
-        return RoomImpl.builder()
-                .withId(retrieveValue(input, "id", Number.class, Number::toString))
-                .withName(retrieveValue(input, "name", String.class))
-                .withCapacity(retrieveValue(input, "capacity", Number.class, Number::intValue))
-                .withWeight(retrieveValue(input, "weight", Number.class, Number::doubleValue))
-                .build();
-    }
-
-    @SuppressWarnings("unchecked")
-    private ScheduleSlot convertScheduleSlot(final Map<String, Object> input) {
-        LOG.debug("Converting to ScheduleSlot: {}", input);
-        return ScheduleSlotImpl.builder()
-                .withId(retrieveValue(input, "id", Number.class, Number::toString))
-                .withOverflow(retrieveValue(input, "overflow", Boolean.class))
-                .withDateTimeRange(DateTimeRangeImpl.builder()
-                        .withEnd(retrieveValue(input, "toDate", String.class, Instant::parse))
-                        .withStart(retrieveValue(input, "fromDate", String.class, Instant::parse))
-                        .build())
-                .withFavoriteCount(retrieveValue(input, "totalFavourites", Number.class, Number::intValue))
-                .withRoom(rooms.get(alternatives(
-                        // either by direct reference to the room ID
-                        retrieveValue(input, "roomId", Number.class, Number::toString),
-                        // or by having the room object as value
-                        retrieveValue(input, "room", Map.class,
-                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
-                .withTalk(retrieveValue(input, "proposal", Map.class,
-                        m -> convertTalk((Map<String, Object>) m)))
+                .withTalk(retrieveValue(input, "talkId", String.class, talks))
                 .build();
     }
 
-    private SessionType convertSessionType(final Map<String, Object> input) {
-        LOG.debug("Converting to SessionType: {}", input);
-        return SessionTypeImpl.builder()
-                .withColor(retrieveValue(input, "cssColor", String.class))
-                .withDescription(retrieveValue(input, "description", String.class))
-                .withDuration(retrieveValue(input, "duration", Number.class, n -> Duration.ofMinutes(n.longValue())))
-                .withId(retrieveValue(input, "id", Number.class, Number::toString))
-                .withName(retrieveValue(input, "name", String.class))
-                .withPause(retrieveValue(input, "pause", Boolean.class))
-                .build();
-    }
-
-    @SuppressWarnings("unchecked")
-    private Speaker convertSpeaker(final Map<String, Object> input) {
-        LOG.debug("Converting to Speaker: {}", input);
-        final SpeakerImpl.Builder builder = SpeakerImpl.builder()
-                .withId(retrieveValue(input, "id", Number.class, Number::toString))
-                .withFirstName(retrieveValue(input, "firstName", String.class, String::trim))
-                .withLastName(retrieveValue(input, "lastName", String.class, String::trim))
-                .withFullName(String.format("%s %s",
-                        retrieveValue(input, "firstName", String.class, String::trim),
-                        retrieveValue(input, "lastName", String.class, String::trim)))
-                .withCompany(retrieveValue(input, "company", String.class, String::trim))
-                .withAvatarURL(retrieveValue(input, "imageUrl", String.class))
-                .withTalks(retrieveValue(input, "talks", List.class,
-                        list -> ((List<?>) list).stream()
-                                .map(o -> (Map<String, Object>) o)
-                                .map(this::convertTalk)
-                                .toList()));
-
-        // collect optionally configured social user names
-        Map.of(
-                "twitterHandle", "twitter",
-                "linkedInUsername", "linkedin",
-                "blueskyUsername", "bluesky",
-                "mastodonUsername", "mastodon"
-        ).forEach((jsonKey, socialMediaName) -> processValue(
-                retrieveValue(input, jsonKey, String.class, String::trim),
-                Predicate.not(String::isBlank),
-                h -> builder.addSocialMedia(socialMediaName, h)));
-
-        return builder.build();
-    }
-
-    @SuppressWarnings("unchecked")
-    private Talk convertTalk(final Map<String, Object> input) {
-        LOG.debug("Converting to Talk: {}", input);
-        String talkId = retrieveValue(input, "id", Number.class, Number::toString);
-        return TalkImpl.builder()
-                .withId(talkId)
-                .withName(retrieveValue(input, "title", String.class))
-                .withAudienceLevel(retrieveValue(input, "audienceLevel", String.class))
-                .withSessionType(sessionTypes.get(alternatives(
-                        // either by direct reference to the session type ID
-                        retrieveValue(input, "sessionTypeId", Number.class, Number::toString),
-                        // or by having the session type object as value
-                        retrieveValue(input, "sessionType", Map.class,
-                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
-                .withFavoriteCount(alternatives(
-                        // if value is available from public event stats
-                        talkFavoriteCounts.getValue().get(talkId),
-                        // otherwise fall back to value from talk
-                        retrieveValue(input, "totalFavourites", Number.class, Number::intValue)))
-                .withLanguage(Locale.ENGLISH)
-                .withScheduleSlots(retrieveValue(input, "timeSlots", List.class,
-                        list -> ((List<?>) list).stream()
-                                .map(o -> (Map<String, Object>) o)
-                                .map(this::convertScheduleSlot)
-                                .toList()))
-                .withSpeakers(retrieveValue(input, "speakers", List.class,
-                        list -> ((List<?>) list).stream()
-                                .map(o -> (Map<String, Object>) o)
-                                .map(this::convertSpeaker)
-                                .toList()))
-                .withTags(retrieveValue(input, "tags", List.class,
-                        list -> ((List<?>) list).stream()
-                                .map(o -> (Map<String, Object>) o)
-                                .map(m -> retrieveValue(m, "name", String.class))
-                                .toList()))
-                .withTrack(tracks.get(alternatives(
-                        // either by direct reference to the track ID
-                        retrieveValue(input, "trackId", Number.class, Number::toString),
-                        // or by having the track object as value
-                        retrieveValue(input, "track", Map.class,
-                                m -> retrieveValue(m, "id", Number.class, Number::toString)))))
-                .build();
-    }
-
-    private Track convertTrack(final Map<String, Object> input) {
-        LOG.debug("Converting to Track: {}", input);
-        return TrackImpl.builder()
-                .withAvatarURL(retrieveValue(input, "imageURL", String.class))
-                .withDescription(retrieveValue(input, "description", String.class))
-                .withId(retrieveValue(input, "id", Number.class, Number::toString))
-                .withName(retrieveValue(input, "name", String.class))
-                .build();
+    private Talk resolveRatedTalk(final Map<String, Talk> talks, final String talkId) {
+        return Optional.ofNullable(talks.get(talkId))
+                // talk not (yet) part of the talk index
+                .or(() -> {
+                    LOG.info("Talk with id '{}' is missing from the talk index", talkId);
+                    return getTalk(talkId);
+                })
+                .get();
     }
 
     private static <T> T retrieveValue(final Map<String, Object> data, final String key, final Class<T> type) {
@@ -490,23 +535,6 @@ public final class ConferenceClientImpl implements ConferenceClient, RatingClien
                 : converter.apply(t);
     }
 
-    private static <T> void processValue(final T value, final Predicate<T> filter, final Consumer<T> consumer) {
-        if (null != value && filter.test(value)) {
-            consumer.accept(value);
-        }
-    }
-
-    @SafeVarargs
-    private static <T> T alternatives(final T... ts) {
-        for (T t : ts) {
-            if (null != t) {
-                return t;
-            }
-        }
-
-        return null;
-    }
-
     protected static record WeekDay(String dayId) {
 
         static WeekDay of(final DayOfWeek dayOfWeek) {
@@ -26,6 +26,7 @@ package org.tweetwallfx.conference.impl;
 import static org.tweetwallfx.util.ToString.createToString;
 import static org.tweetwallfx.util.ToString.map;
 
+import java.nio.file.Path;
 import java.util.Objects;
 
 import org.tweetwallfx.config.ConfigurationConverter;
@@ -43,6 +44,7 @@ public class ConferenceClientSettings {
     private String eventBaseUri;
     private String eventStatsBaseUri;
     private String eventStatsToken;
+    private String snapshotFile;
 
     /**
      * {@return the Event Base URI} from where all standard calls are executed.
@@ -99,12 +101,37 @@ public class ConferenceClientSettings {
         this.eventStatsToken = eventStatsToken;
     }
 
+    /**
+     * {@return the file the snapshot of the conference data is stored in}
+     * Unless configured otherwise the snapshot is stored in the user cache
+     * directory.
+     */
+    public Path getSnapshotFile() {
+        if (null != snapshotFile) {
+            return Path.of(snapshotFile);
+        }
+
+        return PersistentFile.cacheDirectory()
+                .resolve("conference-" + Integer.toHexString(getEventBaseUri().hashCode()) + ".snapshot");
+    }
+
+    /**
+     * Sets the file the snapshot of the conference data is stored in.
+     *
+     * @param snapshotFile the snapshot file
+     */
+    public void setSnapshotFile(final String snapshotFile) {
+        Objects.requireNonNull(snapshotFile, "snapshotFile must not be null!");
+        this.snapshotFile = snapshotFile;
+    }
+
     @Override
     public String toString() {
         return createToString(this, map(
                 "eventBaseUri", getEventBaseUri(),
                 "eventStatsToken", getEventStatsToken(),
-                "eventStatsBaseUri", getEventStatsBaseUri()
+                "eventStatsBaseUri", getEventStatsBaseUri(),
+                "snapshotFile", snapshotFile
                 ));
     }
 
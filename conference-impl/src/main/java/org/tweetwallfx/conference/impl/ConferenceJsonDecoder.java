@@ -0,0 +1,562 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.tweetwallfx.conference.api.Room;
+import org.tweetwallfx.conference.api.ScheduleSlot;
+import org.tweetwallfx.conference.api.SessionType;
+import org.tweetwallfx.conference.api.Speaker;
+import org.tweetwallfx.conference.api.Talk;
+import org.tweetwallfx.conference.api.Track;
+import org.tweetwallfx.conference.spi.DateTimeRangeImpl;
+import org.tweetwallfx.conference.spi.RoomImpl;
+import org.tweetwallfx.conference.spi.ScheduleSlotImpl;
+import org.tweetwallfx.conference.spi.SessionTypeImpl;
+import org.tweetwallfx.conference.spi.SpeakerImpl;
+import org.tweetwallfx.conference.spi.TalkImpl;
+import org.tweetwallfx.conference.spi.TrackImpl;
+
+/**
+ * Decodes the JSON payloads of the conference API straight into the domain
+ * objects.
+ *
+ * <p>
+ * The payloads are read via a streaming {@link JsonParser} so no intermediate
+ * object tree is built. Values not required by the domain objects are skipped
+ * without being materialized. Talks, speakers and repeated strings are
+ * shared within the {@link DecodingGeneration} passed to the decoding methods.
+ */
+final class ConferenceJsonDecoder {
+
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(Map.of());
+    private final Map<String, SessionType> sessionTypes;
+    private final Map<String, Room> rooms;
+    private final Map<String, Track> tracks;
+
+    /**
+     * Creates a decoder resolving references to the given reference data.
+     *
+     * @param sessionTypes the session types by their ID
+     * @param rooms the rooms by their ID
+     * @param tracks the tracks by their ID
+     */
+    ConferenceJsonDecoder(
+            final Map<String, SessionType> sessionTypes,
+            final Map<String, Room> rooms,
+            final Map<String, Track> tracks) {
+        this.sessionTypes = Map.copyOf(sessionTypes);
+        this.rooms = Map.copyOf(rooms);
+        this.tracks = Map.copyOf(tracks);
+    }
+
+    static List<Room> decodeRooms(final InputStream in) {
+        return decodeList(in, ConferenceJsonDecoder::readRoom);
+    }
+
+    static List<SessionType> decodeSessionTypes(final InputStream in) {
+        return decodeList(in, ConferenceJsonDecoder::readSessionType);
+    }
+
+    static List<Track> decodeTracks(final InputStream in) {
+        return decodeList(in, ConferenceJsonDecoder::readTrack);
+    }
+
+    List<ScheduleSlot> decodeScheduleSlots(final InputStream in, final DecodingGeneration generation) {
+        return decodeList(in, parser -> readScheduleSlot(parser, generation));
+    }
+
+    List<Speaker> decodeSpeakers(final InputStream in, final DecodingGeneration generation) {
+        return decodeList(in, parser -> readSpeaker(parser, generation));
+    }
+
+    Speaker decodeSpeaker(final InputStream in, final DecodingGeneration generation) {
+        return decodeObject(in, parser -> readSpeaker(parser, generation));
+    }
+
+    List<Talk> decodeTalks(final InputStream in, final DecodingGeneration generation) {
+        return decodeList(in, parser -> readTalk(parser, generation));
+    }
+
+    Talk decodeTalk(final InputStream in, final DecodingGeneration generation) {
+        return decodeObject(in, parser -> readTalk(parser, generation));
+    }
+
+    private static Room readRoom(final JsonParser parser) {
+        String id = null;
+        String name = null;
+        Integer capacity = null;
+        Double weight = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "id" -> id = readString(parser, event);
+                case "name" -> name = readString(parser, event);
+                case "capacity" -> capacity = readInteger(parser, event);
+                case "weight" -> weight = readDouble(parser, event);
+                default -> skipValue(parser, event);
+            }
+        }
+
+        return RoomImpl.builder()
+                .withId(id)
+                .withName(name)
+                .withCapacity(capacity)
+                .withWeight(weight)
+                .build();
+    }
+
+    private static SessionType readSessionType(final JsonParser parser) {
+        String color = null;
+        String description = null;
+        Integer duration = null;
+        String id = null;
+        String name = null;
+        Boolean pause = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "cssColor" -> color = readString(parser, event);
+                case "description" -> description = readString(parser, event);
+                case "duration" -> duration = readInteger(parser, event);
+                case "id" -> id = readString(parser, event);
+                case "name" -> name = readString(parser, event);
+                case "pause" -> pause = readBoolean(parser, event);
+                default -> skipValue(parser, event);
+            }
+        }
+
+        return SessionTypeImpl.builder()
+                .withColor(color)
+                .withDescription(description)
+                .withDuration(null == duration ? null : Duration.ofMinutes(duration))
+                .withId(id)
+                .withName(name)
+                .withPause(pause)
+                .build();
+    }
+
+    private static Track readTrack(final JsonParser parser) {
+        String avatarURL = null;
+        String description = null;
+        String id = null;
+        String name = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "imageURL" -> avatarURL = readString(parser, event);
+                case "description" -> description = readString(parser, event);
+                case "id" -> id = readString(parser, event);
+                case "name" -> name = readString(parser, event);
+                default -> skipValue(parser, event);
+            }
+        }
+
+        return TrackImpl.builder()
+                .withAvatarURL(avatarURL)
+                .withDescription(description)
+                .withId(id)
+                .withName(name)
+                .build();
+    }
+
+    private ScheduleSlot readScheduleSlot(final JsonParser parser, final DecodingGeneration generation) {
+        String id = null;
+        Boolean overflow = null;
+        Instant start = null;
+        Instant end = null;
+        Integer favoriteCount = null;
+        String roomId = null;
+        String roomReferenceId = null;
+        Talk talk = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "id" -> id = readString(parser, event);
+                case "overflow" -> overflow = readBoolean(parser, event);
+                case "fromDate" -> start = readInstant(parser, event);
+                case "toDate" -> end = readInstant(parser, event);
+                case "totalFavourites" -> favoriteCount = readInteger(parser, event);
+                // either by direct reference to the room ID
+                case "roomId" -> roomId = readString(parser, event);
+                // or by having the room object as value
+                case "room" -> roomReferenceId = readReferenceId(parser, event);
+                case "proposal" -> talk = readObject(parser, event, p -> readTalk(p, generation));
+                default -> skipValue(parser, event);
+            }
+        }
+
+        return ScheduleSlotImpl.builder()
+                .withId(id)
+                .withOverflow(overflow)
+                .withDateTimeRange(DateTimeRangeImpl.builder()
+                        .withEnd(end)
+                        .withStart(start)
+                        .build())
+                .withFavoriteCount(favoriteCount)
+                .withRoom(lookup(rooms, either(roomId, roomReferenceId)))
+                .withTalk(talk)
+                .build();
+    }
+
+    private Speaker readSpeaker(final JsonParser parser, final DecodingGeneration generation) {
+        String id = null;
+        String firstName = null;
+        String lastName = null;
+        String company = null;
+        String avatarUrl = null;
+        String twitterHandle = null;
+        String linkedInUsername = null;
+        String blueskyUsername = null;
+        String mastodonUsername = null;
+        List<Talk> talks = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "id" -> id = readString(parser, event);
+                case "firstName" -> firstName = trim(readString(parser, event));
+                case "lastName" -> lastName = trim(readString(parser, event));
+                case "company" -> company = generation.intern(trim(readString(parser, event)));
+                case "imageUrl" -> avatarUrl = readString(parser, event);
+                case "talks" -> talks = readList(parser, event, p -> readTalk(p, generation));
+                case "twitterHandle" -> twitterHandle = readString(parser, event);
+                case "linkedInUsername" -> linkedInUsername = readString(parser, event);
+                case "blueskyUsername" -> blueskyUsername = readString(parser, event);
+                case "mastodonUsername" -> mastodonUsername = readString(parser, event);
+                default -> skipValue(parser, event);
+            }
+        }
+
+        final String speakerId = id;
+        final String speakerFirstName = firstName;
+        final String speakerLastName = lastName;
+        final String speakerCompany = company;
+        final String speakerAvatarUrl = avatarUrl;
+        final String speakerTwitterHandle = twitterHandle;
+        final String speakerLinkedInUsername = linkedInUsername;
+        final String speakerBlueskyUsername = blueskyUsername;
+        final String speakerMastodonUsername = mastodonUsername;
+        final List<Talk> speakerTalks = talks;
+        final List<?> content = Arrays.asList(firstName, lastName, company, avatarUrl,
+                twitterHandle, linkedInUsername, blueskyUsername, mastodonUsername, talks);
+
+        return generation.speaker(speakerId, null != talks, content, () -> {
+            final SpeakerImpl.Builder builder = SpeakerImpl.builder()
+                    .withId(speakerId)
+                    .withFirstName(speakerFirstName)
+                    .withLastName(speakerLastName)
+                    .withFullName(speakerFirstName + ' ' + speakerLastName)
+                    .withCompany(speakerCompany)
+                    .withAvatarURL(speakerAvatarUrl)
+                    .withTalks(speakerTalks);
+            // collect optionally configured social user names
+            addSocialMedia(builder, "twitter", speakerTwitterHandle);
+            addSocialMedia(builder, "linkedin", speakerLinkedInUsername);
+            addSocialMedia(builder, "bluesky", speakerBlueskyUsername);
+            addSocialMedia(builder, "mastodon", speakerMastodonUsername);
+            return builder.build();
+        });
+    }
+
+    private Talk readTalk(final JsonParser parser, final DecodingGeneration generation) {
+        String id = null;
+        String name = null;
+        String audienceLevel = null;
+        String sessionTypeId = null;
+        String sessionTypeReferenceId = null;
+        Integer favoriteCount = null;
+        List<ScheduleSlot> scheduleSlots = null;
+        List<Speaker> speakers = null;
+        List<String> tags = null;
+        String trackId = null;
+        String trackReferenceId = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            switch (key) {
+                case "id" -> id = readString(parser, event);
+                case "title" -> name = readString(parser, event);
+                case "audienceLevel" -> audienceLevel = generation.intern(readString(parser, event));
+                // either by direct reference to the session type ID
+                case "sessionTypeId" -> sessionTypeId = readString(parser, event);
+                // or by having the session type object as value
+                case "sessionType" -> sessionTypeReferenceId = readReferenceId(parser, event);
+                case "totalFavourites" -> favoriteCount = readInteger(parser, event);
+                case "timeSlots" -> scheduleSlots = readList(parser, event, p -> readScheduleSlot(p, generation));
+                case "speakers" -> speakers = readList(parser, event, p -> readSpeaker(p, generation));
+                case "tags" -> tags = readList(parser, event, p -> generation.intern(readName(p)));
+                // either by direct reference to the track ID
+                case "trackId" -> trackId = readString(parser, event);
+                // or by having the track object as value
+                case "track" -> trackReferenceId = readReferenceId(parser, event);
+                default -> skipValue(parser, event);
+            }
+        }
+
+        final String talkId = id;
+        final String talkName = name;
+        final String talkAudienceLevel = audienceLevel;
+        final SessionType sessionType = lookup(sessionTypes, either(sessionTypeId, sessionTypeReferenceId));
+        final Integer talkFavoriteCount = either(
+                // if value is available from public event stats
+                lookup(generation.favoriteCounts(), id),
+                // otherwise fall back to value from talk
+                favoriteCount);
+        final List<ScheduleSlot> talkScheduleSlots = scheduleSlots;
+        final List<Speaker> talkSpeakers = speakers;
+        final List<String> talkTags = tags;
+        final Track track = lookup(tracks, either(trackId, trackReferenceId));
+        // schedule slots are excluded as they are not shared and would prevent sharing the talk
+        final List<?> content = Arrays.asList(name, audienceLevel, either(sessionTypeId, sessionTypeReferenceId),
+                talkFavoriteCount, speakers, tags, either(trackId, trackReferenceId));
+
+        return generation.talk(talkId, null != scheduleSlots, null != speakers, null != tags, content, () -> TalkImpl.builder()
+                .withId(talkId)
+                .withName(talkName)
+                .withAudienceLevel(talkAudienceLevel)
+                .withSessionType(sessionType)
+                .withFavoriteCount(talkFavoriteCount)
+                .withLanguage(Locale.ENGLISH)
+                .withScheduleSlots(talkScheduleSlots)
+                .withSpeakers(talkSpeakers)
+                .withTags(talkTags)
+                .withTrack(track)
+                .build());
+    }
+
+    private static String readName(final JsonParser parser) {
+        String name = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event event = parser.next();
+
+            if ("name".equals(key)) {
+                name = readString(parser, event);
+            } else {
+                skipValue(parser, event);
+            }
+        }
+
+        return name;
+    }
+
+    private static String readReferenceId(final JsonParser parser, final Event event) {
+        if (Event.START_OBJECT != event) {
+            skipValue(parser, event);
+            return null;
+        }
+
+        String id = null;
+
+        while (Event.KEY_NAME == parser.next()) {
+            final String key = parser.getString();
+            final Event valueEvent = parser.next();
+
+            if ("id".equals(key)) {
+                id = readString(parser, valueEvent);
+            } else {
+                skipValue(parser, valueEvent);
+            }
+        }
+
+        return id;
+    }
+
+    private static <T> List<T> decodeList(final InputStream in, final ElementReader<T> reader) {
+        try (JsonParser parser = PARSER_FACTORY.createParser(in)) {
+            final Event event = parser.next();
+
+            if (Event.START_ARRAY != event) {
+                throw new IllegalStateException("Expected a JSON array but found " + event);
+            }
+
+            return readArray(parser, reader);
+        }
+    }
+
+    private static <T> T decodeObject(final InputStream in, final ElementReader<T> reader) {
+        try (JsonParser parser = PARSER_FACTORY.createParser(in)) {
+            final Event event = parser.next();
+
+            if (Event.START_OBJECT != event) {
+                throw new IllegalStateException("Expected a JSON object but found " + event);
+            }
+
+            return reader.read(parser);
+        }
+    }
+
+    private static <T> T readObject(final JsonParser parser, final Event event, final ElementReader<T> reader) {
+        if (Event.START_OBJECT == event) {
+            return reader.read(parser);
+        }
+
+        skipValue(parser, event);
+        return null;
+    }
+
+    private static <T> List<T> readList(final JsonParser parser, final Event event, final ElementReader<T> reader) {
+        if (Event.START_ARRAY == event) {
+            return readArray(parser, reader);
+        }
+
+        skipValue(parser, event);
+        return null;
+    }
+
+    private static <T> List<T> readArray(final JsonParser parser, final ElementReader<T> reader) {
+        final List<T> result = new ArrayList<>();
+        Event event;
+
+        while (Event.END_ARRAY != (event = parser.next())) {
+            if (Event.START_OBJECT == event) {
+                result.add(reader.read(parser));
+            } else {
+                skipValue(parser, event);
+            }
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    private static String readString(final JsonParser parser, final Event event) {
+        return switch (event) {
+            case VALUE_STRING, VALUE_NUMBER -> parser.getString();
+            default -> {
+                skipValue(parser, event);
+                yield null;
+            }
+        };
+    }
+
+    private static Integer readInteger(final JsonParser parser, final Event event) {
+        if (Event.VALUE_NUMBER == event) {
+            return parser.getInt();
+        }
+
+        skipValue(parser, event);
+        return null;
+    }
+
+    private static Double readDouble(final JsonParser parser, final Event event) {
+        if (Event.VALUE_NUMBER == event) {
+            return parser.getBigDecimal().doubleValue();
+        }
+
+        skipValue(parser, event);
+        return null;
+    }
+
+    private static Boolean readBoolean(final JsonParser parser, final Event event) {
+        return switch (event) {
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> {
+                skipValue(parser, event);
+                yield null;
+            }
+        };
+    }
+
+    private static Instant readInstant(final JsonParser parser, final Event event) {
+        final String value = readString(parser, event);
+        return null == value
+                ? null
+                : Instant.parse(value);
+    }
+
+    private static void skipValue(final JsonParser parser, final Event event) {
+        switch (event) {
+            case START_OBJECT -> parser.skipObject();
+            case START_ARRAY -> parser.skipArray();
+            default -> {
+                // scalar values are skipped by not retrieving them
+            }
+        }
+    }
+
+    private static void addSocialMedia(final SpeakerImpl.Builder builder, final String socialMediaName, final String userName) {
+        final String trimmed = trim(userName);
+
+        if (null != trimmed && !trimmed.isBlank()) {
+            builder.addSocialMedia(socialMediaName, trimmed);
+        }
+    }
+
+    private static String trim(final String value) {
+        return null == value
+                ? null
+                : value.trim();
+    }
+
+    private static <T> T lookup(final Map<String, T> map, final String key) {
+        return null == key
+                ? null
+                : map.get(key);
+    }
+
+    private static <T> T either(final T preferred, final T fallback) {
+        return null == preferred
+                ? fallback
+                : preferred;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+
+        T read(JsonParser parser);
+    }
+}
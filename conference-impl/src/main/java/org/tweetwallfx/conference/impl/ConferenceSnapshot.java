@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.tweetwallfx.conference.impl.PersistentFile.readCount;
+import static org.tweetwallfx.conference.impl.PersistentFile.readRequiredString;
+import static org.tweetwallfx.conference.impl.PersistentFile.writeString;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local snapshot of the last good conference data allowing a warm start
+ * without waiting for the conference API.
+ *
+ * <p>
+ * The snapshot contains the payloads of the {@link PayloadCache} (rooms,
+ * tracks, session types, schedules, talks, ...) along with the favourite
+ * counts and voting results. It is stored in a {@link PersistentFile}.
+ */
+final class ConferenceSnapshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConferenceSnapshot.class);
+    private static final int MAGIC = 0x54574358;
+    private static final int FORMAT_VERSION = 1;
+    private final PayloadCache payloads;
+    private final PersistentFile<Written> persistentFile;
+
+    /**
+     * Creates a snapshot stored in the given file.
+     *
+     * @param file the file the snapshot is stored in
+     * @param payloads the payloads to write to and restore into
+     * @param ratings supplies the current ratings to write
+     */
+    ConferenceSnapshot(final Path file, final PayloadCache payloads, final Supplier<Ratings> ratings) {
+        this.payloads = Objects.requireNonNull(payloads, "payloads must not be null!");
+        Objects.requireNonNull(ratings, "ratings must not be null!");
+        this.persistentFile = new PersistentFile<>(file, MAGIC, FORMAT_VERSION, "conference snapshot",
+                () -> new Written(payloads.modificationCount(), ratings.get()),
+                (out, written) -> {
+                    payloads.writeTo(out);
+                    writeRatings(out, written.ratings());
+                });
+    }
+
+    /**
+     * Restores the payloads of the snapshot into the payload cache.
+     *
+     * @return the ratings of the snapshot or an empty Optional if no snapshot
+     * could be restored
+     */
+    Optional<Ratings> restore() {
+        final Optional<Ratings> restored = persistentFile.restore(buffer -> {
+            // read completely before restoring anything, so that a corrupt snapshot is discarded as a whole
+            final Map<String, PayloadCache.Payload> restoredPayloads = PayloadCache.readFrom(buffer);
+            final Ratings restoredRatings = readRatings(buffer);
+            final int restoredPayloadCount = payloads.restore(restoredPayloads);
+            LOG.info("Restored {} payloads, {} favourite counts and voting results of {} days",
+                    restoredPayloadCount, restoredRatings.favoriteCounts().size(), restoredRatings.votingResults().size());
+            return restoredRatings;
+        });
+
+        // the snapshot is not written again until its content changes
+        restored.ifPresent(ratings -> persistentFile.markWritten(new Written(payloads.modificationCount(), ratings)));
+        return restored;
+    }
+
+    /**
+     * Requests the snapshot to be written. The write happens on a virtual
+     * thread after a short delay collecting further changes.
+     */
+    void requestWrite() {
+        persistentFile.requestWrite();
+    }
+
+    /**
+     * Writes the snapshot on the calling thread unless nothing changed since
+     * the last write. Failures are logged.
+     */
+    void writeNow() {
+        persistentFile.writeNow();
+    }
+
+    private static Ratings readRatings(final ByteBuffer buffer) {
+        final int favoriteCountSize = readCount(buffer);
+        final Map<String, Integer> favoriteCounts = HashMap.newHashMap(favoriteCountSize);
+
+        for (int i = 0; i < favoriteCountSize; i++) {
+            favoriteCounts.put(readRequiredString(buffer), buffer.getInt());
+        }
+
+        final int daySize = readCount(buffer);
+        final Map<String, List<Rating>> votingResults = HashMap.newHashMap(daySize);
+
+        for (int i = 0; i < daySize; i++) {
+            final String dayId = readRequiredString(buffer);
+            final int ratingSize = readCount(buffer);
+            final List<Rating> dayRatings = new ArrayList<>(ratingSize);
+
+            for (int j = 0; j < ratingSize; j++) {
+                dayRatings.add(new Rating(readRequiredString(buffer), buffer.getDouble(), buffer.getInt()));
+            }
+
+            votingResults.put(dayId, dayRatings);
+        }
+
+        return new Ratings(favoriteCounts, votingResults);
+    }
+
+    private static void writeRatings(final DataOutputStream out, final Ratings ratings) throws IOException {
+        out.writeInt(ratings.favoriteCounts().size());
+
+        for (final Map.Entry<String, Integer> entry : ratings.favoriteCounts().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+
+        out.writeInt(ratings.votingResults().size());
+
+        for (final Map.Entry<String, List<Rating>> entry : ratings.votingResults().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+
+            for (final Rating rating : entry.getValue()) {
+                writeString(out, rating.talkId());
+                out.writeDouble(rating.averageRating());
+                out.writeInt(rating.totalRatings());
+            }
+        }
+    }
+
+    /**
+     * The rating related data of a snapshot.
+     *
+     * @param favoriteCounts the favourite counts by talk ID
+     * @param votingResults the voting results by conference day
+     */
+    static record Ratings(Map<String, Integer> favoriteCounts, Map<String, List<Rating>> votingResults) {
+
+        Ratings {
+            favoriteCounts = Map.copyOf(favoriteCounts);
+            votingResults = votingResults.entrySet().stream()
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue())));
+        }
+    }
+
+    /**
+     * The rating of a single talk.
+     *
+     * @param talkId the ID of the rated talk
+     * @param averageRating the average rating
+     * @param totalRatings the number of ratings
+     */
+    static record Rating(String talkId, double averageRating, int totalRatings) {
+    }
+
+    private static record Written(long payloadModificationCount, Ratings ratings) {
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.tweetwallfx.conference.api.Speaker;
+import org.tweetwallfx.conference.api.Talk;
+
+/**
+ * The state shared by all decoding passes of one refresh generation.
+ *
+ * <p>
+ * Talks and speakers appear many times across the schedule, talk and speaker
+ * payloads. Within a generation every talk and speaker is created only once
+ * per ID, shape (i.e. which nested lists it was decoded with) and content and
+ * shared from then on. The content is part of the key as the payloads embed
+ * the same talk or speaker with differing values, e.g. the schedule embeds the
+ * track and session type objects while the talks reference them by ID.
+ * Repeated strings such as tags, company names and audience
+ * levels are interned per generation as well.
+ *
+ * <p>
+ * A generation is bound to the favourite counts it was created with and the
+ * {@link PayloadCache#contentVersion() content version} of the payloads as the
+ * shared objects reflect both. A new generation has to be started once either
+ * of them changes.
+ */
+final class DecodingGeneration {
+
+    private static final int SHAPE_SCHEDULE_SLOTS = 1;
+    private static final int SHAPE_SPEAKERS = 2;
+    private static final int SHAPE_TAGS = 4;
+    private static final int SHAPE_TALKS = 1;
+    private final Map<String, Integer> favoriteCounts;
+    private final long contentVersion;
+    private final Map<SharedKey, Talk> talks = new ConcurrentHashMap<>();
+    private final Map<SharedKey, Speaker> speakers = new ConcurrentHashMap<>();
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a generation for the given favourite counts that is not bound to
+     * a content version.
+     *
+     * @param favoriteCounts the favourite counts by talk ID
+     */
+    DecodingGeneration(final Map<String, Integer> favoriteCounts) {
+        this(favoriteCounts, -1);
+    }
+
+    /**
+     * Creates a generation for the given favourite counts and content version.
+     *
+     * @param favoriteCounts the favourite counts by talk ID
+     * @param contentVersion the content version of the payloads
+     */
+    DecodingGeneration(final Map<String, Integer> favoriteCounts, final long contentVersion) {
+        this.favoriteCounts = Objects.requireNonNull(favoriteCounts, "favoriteCounts must not be null!");
+        this.contentVersion = contentVersion;
+    }
+
+    /**
+     * {@return the favourite counts by talk ID}
+     */
+    Map<String, Integer> favoriteCounts() {
+        return favoriteCounts;
+    }
+
+    /**
+     * Checks if this generation is still valid for the given favourite counts
+     * and content version.
+     *
+     * @param favoriteCounts the current favourite counts by talk ID
+     * @param contentVersion the current content version of the payloads
+     *
+     * @return {@code true} if this generation is still valid
+     */
+    boolean isCurrent(final Map<String, Integer> favoriteCounts, final long contentVersion) {
+        return this.contentVersion == contentVersion
+                && (this.favoriteCounts == favoriteCounts || this.favoriteCounts.equals(favoriteCounts));
+    }
+
+    /**
+     * Returns the talk shared for the given ID, present nested lists and
+     * content, creating it if it does not exist yet.
+     *
+     * @param id the talk ID
+     * @param hasScheduleSlots if the talk was decoded with schedule slots
+     * @param hasSpeakers if the talk was decoded with speakers
+     * @param hasTags if the talk was decoded with tags
+     * @param content the decoded and resolved values the talk is created from
+     * @param factory creates the talk if it is not yet shared
+     *
+     * @return the shared talk
+     */
+    Talk talk(final String id, final boolean hasScheduleSlots, final boolean hasSpeakers, final boolean hasTags, final List<?> content, final Supplier<Talk> factory) {
+        if (null == id) {
+            return factory.get();
+        }
+
+        final int shape = (hasScheduleSlots ? SHAPE_SCHEDULE_SLOTS : 0)
+                | (hasSpeakers ? SHAPE_SPEAKERS : 0)
+                | (hasTags ? SHAPE_TAGS : 0);
+        return talks.computeIfAbsent(new SharedKey(id, shape, content), _ -> factory.get());
+    }
+
+    /**
+     * Returns the speaker shared for the given ID, present nested lists and
+     * content, creating it if it does not exist yet.
+     *
+     * @param id the speaker ID
+     * @param hasTalks if the speaker was decoded with talks
+     * @param content the decoded values the speaker is created from
+     * @param factory creates the speaker if it is not yet shared
+     *
+     * @return the shared speaker
+     */
+    Speaker speaker(final String id, final boolean hasTalks, final List<?> content, final Supplier<Speaker> factory) {
+        if (null == id) {
+            return factory.get();
+        }
+
+        return speakers.computeIfAbsent(new SharedKey(id, hasTalks ? SHAPE_TALKS : 0, content), _ -> factory.get());
+    }
+
+    /**
+     * Returns the shared instance of a string equal to the given one.
+     *
+     * @param value the string to intern
+     *
+     * @return the shared instance or {@code null} if {@code value} is
+     * {@code null}
+     */
+    String intern(final String value) {
+        if (null == value) {
+            return null;
+        }
+
+        final String existing = strings.putIfAbsent(value, value);
+        return null == existing ? value : existing;
+    }
+
+    private static record SharedKey(String id, int shape, List<?> content) {
+    }
+}
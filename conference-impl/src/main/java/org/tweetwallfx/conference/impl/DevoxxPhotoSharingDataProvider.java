@@ -25,14 +25,26 @@ package org.tweetwallfx.conference.impl;
 
 import static org.tweetwallfx.util.Nullable.nullable;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.tweetwallfx.cache.URLContentCacheBase;
 import org.tweetwallfx.conference.spi.util.RestCallHelper;
 import org.tweetwallfx.config.Configuration;
@@ -45,13 +57,67 @@ public class DevoxxPhotoSharingDataProvider
         extends ImageStorageDataProvider.Base
         implements DataProvider.Scheduled {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DevoxxPhotoSharingDataProvider.class);
     private static final String SHARED_PHOTO_ID = "sharedPhotoId";
     private final Config config;
+    private final ImageCache imageCache;
+    private final DownloadPipeline downloads;
+    private final SharedPhotoIndex photoIndex;
+    /**
+     * IDs of the shared photos submitted for download but not yet ingested.
+     */
+    private final Set<String> pendingIds = ConcurrentHashMap.newKeySet();
+    private final Optional<SharedPhotoUpdates> updates;
+    /**
+     * Refreshes the likes and spam flags of the ingested photos that may be
+     * shown while they are in use, providing the number of refreshed photos.
+     */
+    private final RefreshAheadValue<Integer> popularity;
+    /**
+     * The number of photos added to the storage, which only evicts photos
+     * when others are added.
+     */
+    private final AtomicLong addedPhotos = new AtomicLong();
+    private volatile ImageStorages imageStorages = new ImageStorages(-1, Map.of());
+    private final ExecutorService pageRequests = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("devoxx-photo-page-", 0).factory());
     private volatile boolean initialized = false;
+    /**
+     * The number of photos requested per page, growing while catching up
+     * with a backlog of photos and shrinking back once caught up.
+     */
+    private volatile int pageSize;
 
     private DevoxxPhotoSharingDataProvider(final Config config) {
         super(config.cacheSize());
         this.config = config;
+        this.imageCache = new ImageCache(config.encodedImageBudget(), config.decodedImageBudget());
+        this.downloads = new DownloadPipeline("devoxx-photo-download", config.downloadConcurrency(), config.downloadQueueSize());
+        this.photoIndex = new SharedPhotoIndex(config.indexPath());
+        this.pageSize = config.pageSize();
+        this.updates = config.liveUpdates()
+                ? Optional.of(new SharedPhotoUpdates(
+                        URI.create(config.eventsUrl()),
+                        Duration.ofSeconds(config.minPollInterval()),
+                        Duration.ofSeconds(config.maxPollInterval()),
+                        this::loadPhotos))
+                : Optional.empty();
+        // data providers are not shut down by the step engine, so the events stream is closed when the JVM exits
+        updates.ifPresent(u -> Runtime.getRuntime().addShutdownHook(new Thread(u::stop, "devoxx-photo-updates-stop")));
+        this.popularity = new RefreshAheadValue<>(
+                "devoxx-photo-popularity",
+                this::refreshPopularity,
+                Duration.ofSeconds(config.popularityRefreshInterval()),
+                0);
+    }
+
+    /**
+     * Provides the memory bounded cache of the images of this provider.
+     *
+     * @return the image cache
+     */
+    ImageCache getImageCache() {
+        return imageCache;
     }
 
     @Override
@@ -71,54 +137,249 @@ public class DevoxxPhotoSharingDataProvider
 
     @Override
     public void run() {
+        if (!initialized && restorePhotos() > 0) {
+            // photos known from the previous run are available right away
+            initialized = true;
+        }
+
         loadPhotos();
         initialized = true;
+        // the scheduled executions remain as a safety net
+        updates.ifPresent(SharedPhotoUpdates::start);
+    }
+
+    private int restorePhotos() {
+        final int restoredPhotos = photoIndex.restore();
+        final URLContentCacheBase cacheBase = URLContentCacheBase.getDefault();
+
+        photoIndex.entries().stream()
+                .filter(entry -> !entry.flaggedAsSpam())
+                .sorted(Comparator.comparing(SharedPhotoIndex.Entry::createdAt))
+                .forEach(entry -> addPhoto(cacheBase, entry.id(), entry.url(), entry.createdAt()));
+        return restoredPhotos;
+    }
+
+    private void addPhoto(final URLContentCacheBase cacheBase, final String id, final String url, final Instant createdAt) {
+        // the image is read from the cache when needed instead of being kept on-heap
+        add(() -> cacheBase.getCachedOrLoad(url), createdAt, additionalData(id, url));
+        addedPhotos.incrementAndGet();
     }
 
-    private void loadPhotos() {
-        final Access access = getAccess(ImageStorage.DEFAULT_CATEGORY);
-        final Set<String> knownIds = access.getImages(40)
-                .stream()
-                // extract shared photo id
-                .map(is -> is.getAdditionalInfo().get(SHARED_PHOTO_ID))
+    /**
+     * Checks if the photo stored in the given {@link ImageStorage} has been
+     * flagged as spam since it was ingested.
+     *
+     * @param imageStorage the storage of the photo
+     *
+     * @return {@code true} if the photo is flagged as spam
+     */
+    boolean isFlaggedAsSpam(final ImageStorage imageStorage) {
+        return indexEntry(imageStorage).map(SharedPhotoIndex.Entry::flaggedAsSpam).orElse(Boolean.FALSE);
+    }
+
+    /**
+     * Gets the most liked of the available photos, which are never flagged as
+     * spam. Triggers a refresh of the likes and spam flags in the background
+     * once they are due.
+     *
+     * @param count the maximum number of photos to get
+     *
+     * @return the storages of the most liked photos, the most liked first
+     */
+    List<ImageStorage> getMostLikedImages(final int count) {
+        popularity.getValue();
+        final Map<String, ImageStorage> storagesById = imageStoragesById();
+
+        return photoIndex.mostLiked()
+                .map(entry -> storagesById.get(entry.id()))
                 .filter(Objects::nonNull)
-                .map(String.class::cast)
-                .collect(Collectors.toSet());
+                .limit(count)
+                .toList();
+    }
+
+    private Map<String, ImageStorage> imageStoragesById() {
+        final long added = addedPhotos.get();
+        ImageStorages current = imageStorages;
+
+        // the storage only changes when photos are added, so it is only mapped again then
+        if (current.addedPhotos() != added) {
+            final Access access = getAccess(ImageStorage.DEFAULT_CATEGORY);
+            current = new ImageStorages(added, access.getImages(access.count()).stream()
+                    .filter(imageStorage -> null != sharedPhotoId(imageStorage))
+                    .collect(Collectors.toMap(this::sharedPhotoId, Function.identity(), (first, _) -> first)));
+            imageStorages = current;
+        }
+
+        return current.byId();
+    }
+
+    private Optional<SharedPhotoIndex.Entry> indexEntry(final ImageStorage imageStorage) {
+        return Optional.ofNullable(sharedPhotoId(imageStorage))
+                .flatMap(photoIndex::get);
+    }
+
+    private String sharedPhotoId(final ImageStorage imageStorage) {
+        return (String) imageStorage.getAdditionalInfo().get(SHARED_PHOTO_ID);
+    }
 
-        Optional<PageInfo> pageInfo = Optional.empty();
+    private boolean isKnown(final SharedPhoto sharedPhoto) {
+        return photoIndex.contains(sharedPhoto.id()) || pendingIds.contains(sharedPhoto.id());
+    }
+
+    private synchronized int loadPhotos() {
+        CompletableFuture<Optional<SharedPhotos>> nextPage = requestPhotosPage(null);
+        boolean hasMore;
+        int loadedPages = 0;
+        int loadedPhotos = 0;
         boolean foundAnyKnownId;
 
         do {
-            final Optional<SharedPhotos> requestedData = loadPhotosPage(pageInfo.map(PageInfo::lastVisible).orElse(null));
-            pageInfo = requestedData.map(SharedPhotos::pageInfo);
+            final Optional<SharedPhotos> requestedData = nextPage.join();
+            final Optional<PageInfo> pageInfo = requestedData.map(SharedPhotos::pageInfo);
+            final List<SharedPhoto> pagePhotos = requestedData.map(SharedPhotos::photos).orElse(List.of());
+            final List<SharedPhoto> sharedPhotos = pagePhotos.stream()
+                    // shared photos are provided newest first, so the photos after a known one are known as well
+                    .takeWhile(sp -> !isKnown(sp))
+                    .toList();
+            loadedPages++;
+            loadedPhotos += sharedPhotos.size();
+            pagePhotos.forEach(this::updateIndexEntry);
 
-            final Optional<List<SharedPhoto>> opSharedPhotos = requestedData.map(SharedPhotos::photos);
-            opSharedPhotos.ifPresent(this::triggerPhotoLoad);
+            foundAnyKnownId = sharedPhotos.size() < pagePhotos.size();
+            hasMore = pageInfo.map(PageInfo::hasMore).orElse(Boolean.FALSE)
+                    // the storage only keeps the newest photos up to its size, regardless of how full it is
+                    && loadedPhotos < config.cacheSize()
+                    && !foundAnyKnownId;
+
+            if (hasMore) {
+                // catching up with a backlog of photos
+                pageSize = Math.min(pageSize * 2, config.maxPageSize());
+                // the next page is requested while the photos of this page are downloaded
+                nextPage = requestPhotosPage(pageInfo.orElseThrow().lastVisible());
+            }
+
+            // spam is never downloaded
+            triggerPhotoLoad(sharedPhotos.stream()
+                    .filter(sp -> !sp.flaggedAsSpam())
+                    .toList());
+        } while (hasMore);
+
+        if (1 == loadedPages) {
+            // caught up with the shared photos
+            pageSize = Math.max(pageSize / 2, config.pageSize());
+        }
 
-            foundAnyKnownId = opSharedPhotos.orElse(List.of()).stream()
-                    .map(SharedPhoto::id)
-                    .anyMatch(knownIds::contains);
-        } while (pageInfo.map(PageInfo::hasMore).orElse(Boolean.FALSE)
-                && access.count() < config.cacheSize()
-                && !foundAnyKnownId);
+        LOG.info("Loaded {} shared photos in {} pages, {} downloads pending, next page size {}",
+                loadedPhotos, loadedPages, downloads.pendingCount(), pageSize);
+        return loadedPhotos;
     }
 
     private void triggerPhotoLoad(final List<SharedPhoto> sharedPhotos) {
         final URLContentCacheBase cacheBase = URLContentCacheBase.getDefault();
-        sharedPhotos.forEach(sp -> cacheBase.getCachedOrLoad(
-                sp.url(),
-                uc -> add(uc, sp.createdAt(), Map.of(SHARED_PHOTO_ID, sp.id()))));
+        sharedPhotos.forEach(sp -> {
+            pendingIds.add(sp.id());
+            // newest photos are downloaded first
+            downloads.submit(
+                    sp.createdAt(),
+                    () -> {
+                        try {
+                            cacheBase.getCachedOrLoad(sp.url());
+                            addPhoto(cacheBase, sp.id(), sp.url(), sp.createdAt());
+                            photoIndex.put(new SharedPhotoIndex.Entry(
+                                    sp.id(),
+                                    sp.createdAt(),
+                                    sp.url(),
+                                    sp.likes(),
+                                    sp.flaggedAsSpam()));
+                            photoIndex.requestWrite();
+                        } finally {
+                            pendingIds.remove(sp.id());
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Refreshes the likes and spam flags of the ingested photos that may be
+     * shown, i.e. the newest photos up to the cache size.
+     *
+     * @return the number of refreshed photos
+     */
+    private int refreshPopularity() {
+        String lastVisible = null;
+        boolean hasMore = true;
+        int requestedPhotos = 0;
+        int refreshedPhotos = 0;
+
+        while (hasMore && requestedPhotos < config.cacheSize()) {
+            final Optional<SharedPhotos> requestedData = loadPhotosPage(
+                    lastVisible,
+                    Math.min(config.maxPageSize(), config.cacheSize() - requestedPhotos));
+            final Optional<PageInfo> pageInfo = requestedData.map(SharedPhotos::pageInfo);
+            final List<SharedPhoto> pagePhotos = requestedData.map(SharedPhotos::photos).orElse(List.of());
+            requestedPhotos += pagePhotos.size();
+
+            for (final SharedPhoto sharedPhoto : pagePhotos) {
+                if (updateIndexEntry(sharedPhoto)) {
+                    refreshedPhotos++;
+                }
+            }
+
+            hasMore = !pagePhotos.isEmpty() && pageInfo.map(PageInfo::hasMore).orElse(Boolean.FALSE);
+            lastVisible = pageInfo.map(PageInfo::lastVisible).orElse(null);
+        }
+
+        LOG.info("Refreshed likes and spam flags of {} shared photos", refreshedPhotos);
+        return refreshedPhotos;
+    }
+
+    /**
+     * Updates the likes and spam flag of the already ingested photo.
+     *
+     * @return {@code true} if the photo has been ingested already
+     */
+    private boolean updateIndexEntry(final SharedPhoto sharedPhoto) {
+        final Optional<SharedPhotoIndex.Entry> indexEntry = photoIndex.get(sharedPhoto.id());
+
+        indexEntry.ifPresent(entry -> {
+            photoIndex.put(new SharedPhotoIndex.Entry(
+                    entry.id(),
+                    entry.createdAt(),
+                    entry.url(),
+                    sharedPhoto.likes(),
+                    sharedPhoto.flaggedAsSpam()));
+            photoIndex.requestWrite();
+        });
+        return indexEntry.isPresent();
+    }
+
+    private static Map<String, Object> additionalData(final String id, final String url) {
+        return Map.of(SHARED_PHOTO_ID, id, ImageCache.IMAGE_URL, url);
+    }
+
+    private CompletableFuture<Optional<SharedPhotos>> requestPhotosPage(final String lastVisible) {
+        final int requestedPageSize = pageSize;
+        return CompletableFuture.supplyAsync(() -> loadPhotosPage(lastVisible, requestedPageSize), pageRequests);
     }
 
-    private Optional<SharedPhotos> loadPhotosPage(final String lastVisible) {
+    private Optional<SharedPhotos> loadPhotosPage(final String lastVisible, final int requestedPageSize) {
         return RestCallHelper.readOptionalFrom(
                 config.queryUrl(),
                 Configuration.mergeMap(
-                        Map.of("pageSize", config.pageSize()),
+                        Map.of("pageSize", requestedPageSize),
                         null == lastVisible ? Map.of() : Map.of("lastVisible", lastVisible)),
                 SharedPhotos.class);
     }
 
+    /**
+     * The stored photos by their shared photo ID.
+     *
+     * @param addedPhotos the number of photos added when they were mapped
+     * @param byId the storages of the photos by their shared photo ID
+     */
+    private static record ImageStorages(long addedPhotos, Map<String, ImageStorage> byId) {
+    }
+
     /**
      * Implementation of {@link DataProvider.Factory} as Service implementation
      * creating {@link DevoxxPhotoSharingDataProvider}.
@@ -143,6 +404,15 @@ public class DevoxxPhotoSharingDataProvider
      * Param {@code queryUrl} URL String where the shared photos can be queried
      *
      * <p>
+     * Param {@code pageSize} The number of photos requested per page when
+     * caught up with the shared photos. Defaults to {@code 10}.
+     *
+     * <p>
+     * Param {@code maxPageSize} The maximum number of photos requested per
+     * page. The page size doubles with every further page needed to catch up
+     * with the shared photos up to this size. Defaults to {@code 100}.
+     *
+     * <p>
      * Param {@code initialDelay} The type of scheduling to perform. Defaults to
      * {@link ScheduleType#FIXED_RATE}.
      *
@@ -153,11 +423,71 @@ public class DevoxxPhotoSharingDataProvider
      * <p>
      * Param {@code scheduleDuration} Fixed rate of / delay between consecutive
      * executions in seconds. Defaults to {@code 1800L}.
+     *
+     * <p>
+     * Param {@code encodedImageBudget} The number of bytes of encoded images kept
+     * off-heap. Defaults to {@code 256 MiB}.
+     *
+     * <p>
+     * Param {@code decodedImageBudget} The number of bytes of decoded images kept
+     * on-heap. Defaults to {@code 64 MiB}.
+     *
+     * <p>
+     * Param {@code downloadConcurrency} The number of photos downloaded at the
+     * same time. Defaults to {@code 4}.
+     *
+     * <p>
+     * Param {@code downloadQueueSize} The maximum number of photos waiting to
+     * be downloaded. Requesting further pages waits while the queue is full.
+     * Defaults to {@code 100}.
+     *
+     * <p>
+     * Param {@code indexFile} The file the index of the ingested shared photos
+     * is stored in. Defaults to {@code devoxx-shared-photos.index} in the user
+     * cache directory.
+     *
+     * <p>
+     * Param {@code liveUpdates} Flag enabling loading new shared photos as
+     * soon as they are shared in addition to the scheduled executions. The
+     * server is expected to announce them via server-sent events at
+     * {@code eventsUrl}. Otherwise they are polled. Defaults to
+     * {@code false}.
+     *
+     * <p>
+     * Param {@code eventsUrl} URL String of the server-sent events announcing
+     * new shared photos. Defaults to {@code queryUrl}.
+     *
+     * <p>
+     * Param {@code minPollInterval} The shortest interval between two polls
+     * in seconds, used while photos are being shared. Defaults to
+     * {@code 10L}.
+     *
+     * <p>
+     * Param {@code maxPollInterval} The longest interval between two polls in
+     * seconds, used while no photos are being shared. Defaults to
+     * {@code 300L}.
+     *
+     * <p>
+     * Param {@code popularityRefreshInterval} The interval in seconds after
+     * which the likes and spam flags of the photos that may be shown are
+     * refreshed while the most liked photos are in use. Defaults to
+     * {@code 300L}.
      */
     public static record Config(
             String queryUrl,
             Integer pageSize,
+            Integer maxPageSize,
             Integer cacheSize,
+            Long encodedImageBudget,
+            Long decodedImageBudget,
+            Integer downloadConcurrency,
+            Integer downloadQueueSize,
+            String indexFile,
+            Boolean liveUpdates,
+            String eventsUrl,
+            Long minPollInterval,
+            Long maxPollInterval,
+            Long popularityRefreshInterval,
             ScheduleType scheduleType,
             Long initialDelay,
             Long scheduleDuration) implements ScheduledConfig {
@@ -167,15 +497,62 @@ public class DevoxxPhotoSharingDataProvider
             if (pageSize <= 0) {
                 throw new IllegalArgumentException("property 'pageSize' must be larger than zero");
             }
+            maxPageSize = Objects.requireNonNullElse(maxPageSize, Math.max(100, pageSize));
+            if (maxPageSize < pageSize) {
+                throw new IllegalArgumentException("property 'maxPageSize' must not be smaller than 'pageSize'");
+            }
             cacheSize = Objects.requireNonNullElse(cacheSize, 100);
             if (cacheSize <= 0) {
                 throw new IllegalArgumentException("property 'cacheSize' must be larger than zero");
             }
+            encodedImageBudget = Objects.requireNonNullElse(encodedImageBudget, 256L << 20);
+            if (encodedImageBudget <= 0) {
+                throw new IllegalArgumentException("property 'encodedImageBudget' must be larger than zero");
+            }
+            decodedImageBudget = Objects.requireNonNullElse(decodedImageBudget, 64L << 20);
+            if (decodedImageBudget <= 0) {
+                throw new IllegalArgumentException("property 'decodedImageBudget' must be larger than zero");
+            }
+            downloadConcurrency = Objects.requireNonNullElse(downloadConcurrency, 4);
+            if (downloadConcurrency <= 0) {
+                throw new IllegalArgumentException("property 'downloadConcurrency' must be larger than zero");
+            }
+            downloadQueueSize = Objects.requireNonNullElse(downloadQueueSize, 100);
+            if (downloadQueueSize <= 0) {
+                throw new IllegalArgumentException("property 'downloadQueueSize' must be larger than zero");
+            }
+            liveUpdates = Objects.requireNonNullElse(liveUpdates, Boolean.FALSE);
+            eventsUrl = null == eventsUrl ? queryUrl : eventsUrl;
+            if (liveUpdates && null == eventsUrl) {
+                throw new IllegalArgumentException("property 'eventsUrl' must be set for 'liveUpdates'");
+            }
+            minPollInterval = Objects.requireNonNullElse(minPollInterval, 10L);
+            if (minPollInterval <= 0) {
+                throw new IllegalArgumentException("property 'minPollInterval' must be larger than zero");
+            }
+            maxPollInterval = Objects.requireNonNullElse(maxPollInterval, Math.max(300L, minPollInterval));
+            if (maxPollInterval < minPollInterval) {
+                throw new IllegalArgumentException("property 'maxPollInterval' must not be smaller than 'minPollInterval'");
+            }
+            popularityRefreshInterval = Objects.requireNonNullElse(popularityRefreshInterval, 300L);
+            if (popularityRefreshInterval <= 0) {
+                throw new IllegalArgumentException("property 'popularityRefreshInterval' must be larger than zero");
+            }
             // for ScheduledConfig
             scheduleType = Objects.requireNonNullElse(scheduleType, ScheduleType.FIXED_RATE);
             initialDelay = Objects.requireNonNullElse(initialDelay, 0L);
             scheduleDuration = Objects.requireNonNullElse(scheduleDuration, 30 * 60L);
         }
+
+        /**
+         * {@return the file the index of the ingested shared photos is stored
+         * in}
+         */
+        public Path indexPath() {
+            return null == indexFile
+                    ? PersistentFile.cacheDirectory().resolve("devoxx-shared-photos.index")
+                    : Path.of(indexFile);
+        }
     }
 
     public static record SharedPhotos(
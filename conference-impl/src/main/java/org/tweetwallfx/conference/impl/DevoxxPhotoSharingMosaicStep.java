@@ -32,11 +32,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.SequentialTransition;
 import javafx.animation.Transition;
+import javafx.application.Platform;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.CacheHint;
@@ -64,15 +66,24 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
     private final Config config;
     private static final Random RANDOM = new SecureRandom();
     private final ImageView[][] rects;
+    private final ImageStorage[][] imageStorages;
     private final Bounds[][] bounds;
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
+    private ImageCache imageCache;
     private int count = 0;
     private final Image qrCode = new Image(this.getClass().getResourceAsStream("/photos-devoxx-be-qr.jpeg"));
 
     private DevoxxPhotoSharingMosaicStep(Config config) {
         this.config = config;
         rects = new ImageView[config.columns][config.rows];
+        // the cells are reused by all mosaics, only their images are replaced
+        for (int i = 0; i < config.columns; i++) {
+            for (int j = 0; j < config.rows; j++) {
+                rects[i][j] = createCell();
+            }
+        }
+        imageStorages = new ImageStorage[config.columns][config.rows];
         bounds = new Bounds[config.columns][config.rows];
     }
 
@@ -93,11 +104,23 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
         WordleSkin wordleSkin = (WordleSkin) context.get("WordleSkin");
         DevoxxPhotoSharingDataProvider dataProvider = context.getDataProvider(DevoxxPhotoSharingDataProvider.class);
         pane = wordleSkin.getPane();
-        Transition createMosaicTransition = createMosaicTransition(dataProvider.getAccess().getImages(config.getNumberOfImagesToChooseFromCalculated()));
-        createMosaicTransition.setOnFinished(event
-                -> executeAnimations(context));
-
-        createMosaicTransition.play();
+        imageCache = dataProvider.getImageCache();
+        // one of the cells shows the QR code
+        final int numberOfImages = config.columns * config.rows - 1;
+        final List<ImageStorage> selectedImages = selectImages(
+                dataProvider.getMostLikedImages(Math.min(config.numberOfPopularImages, numberOfImages)),
+                dataProvider.getAccess().getImages(config.getNumberOfImagesToChooseFromCalculated()),
+                dataProvider::isFlaggedAsSpam,
+                numberOfImages,
+                RANDOM);
+        // the images are loaded off the JavaFX application thread
+        imageCache.preload(selectedImages).whenComplete((_, _) -> Platform.runLater(() -> {
+            Transition createMosaicTransition = createMosaicTransition(selectedImages);
+            createMosaicTransition.setOnFinished(event
+                    -> executeAnimations(context));
+
+            createMosaicTransition.play();
+        }));
     }
 
     @Override
@@ -115,6 +138,9 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
             revert.setDelay(Duration.seconds(3));
             revert.play();
             revert.setOnFinished(event -> {
+                // release the full size image of the highlighted photo
+                rects[highlightAndZoomTransition.column][highlightAndZoomTransition.row]
+                        .setImage(highlightAndZoomTransition.thumbnail);
                 count++;
                 if (count < config.numberOfHighlights) {
                     executeAnimations(context);
@@ -132,6 +158,8 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
                         for (int i = 0; i < config.columns; i++) {
                             for (int j = 0; j < config.rows; j++) {
                                 pane.getChildren().remove(rects[i][j]);
+                                rects[i][j].setImage(null);
+                                imageStorages[i][j] = null;
                             }
                         }
                         highlightedIndexes.clear();
@@ -143,26 +171,58 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
         });
     }
 
-    private Transition createMosaicTransition(final List<ImageStorage> imageStorages) {
+    /**
+     * Selects the images shown by the mosaic. The most liked images are always
+     * shown, the remaining ones are chosen randomly from the images to choose
+     * from. Images flagged as spam since they were loaded are never shown.
+     *
+     * @param <T> the type of the images
+     * @param mostLiked the most liked images, the most liked first
+     * @param candidates the images to choose the remaining ones from
+     * @param isFlaggedAsSpam checks if an image is flagged as spam
+     * @param numberOfImages the number of images to select
+     * @param random the source of randomness
+     *
+     * @return the mutable list of the selected images
+     */
+    static <T> List<T> selectImages(
+            final List<T> mostLiked,
+            final List<T> candidates,
+            final Predicate<T> isFlaggedAsSpam,
+            final int numberOfImages,
+            final Random random) {
+        final List<T> selected = new ArrayList<>(mostLiked.stream()
+                .filter(isFlaggedAsSpam.negate())
+                .limit(numberOfImages)
+                .toList());
+        final List<T> remaining = new ArrayList<>(candidates);
+        remaining.removeIf(isFlaggedAsSpam);
+        remaining.removeAll(selected);
+        Collections.shuffle(remaining, random);
+        selected.addAll(remaining.subList(0, Math.min(numberOfImages - selected.size(), remaining.size())));
+        return selected;
+    }
+
+    private Transition createMosaicTransition(final List<ImageStorage> images) {
         final SequentialTransition fadeIn = new SequentialTransition();
         final List<FadeTransition> allFadeIns = new ArrayList<>();
         final double width = (0 != config.width ? config.width : pane.getWidth()) / (double) config.columns - 10;
         final double height = (0 != config.height ? config.height : pane.getHeight()) / (double) config.rows - 8;
         final int posOfQrCodeX = RANDOM.nextInt(config.columns);
         final int posOfQrCodeY = RANDOM.nextInt(config.rows);
-        final List<ImageStorage> distillingList = imageStorages; // mutable list required
+        final List<ImageStorage> distillingList = images; // mutable list required
 
         for (int i = 0; i < config.columns; i++) {
             for (int j = 0; j < config.rows; j++) {
-                int index = RANDOM.nextInt(distillingList.size());
-                Image selectedImage = (i == posOfQrCodeX && j == posOfQrCodeY) ? qrCode : distillingList.remove(index).getImage();
-                ImageView imageView = new ImageView(selectedImage);
-                imageView.setCache(true);
-                imageView.setCacheHint(CacheHint.SPEED);
+                boolean qrCodeCell = (i == posOfQrCodeX && j == posOfQrCodeY) || distillingList.isEmpty();
+                imageStorages[i][j] = qrCodeCell ? null : distillingList.remove(RANDOM.nextInt(distillingList.size()));
+                // decoded at the size of the cell it is stretched into
+                Image selectedImage = null == imageStorages[i][j] ? qrCode : imageCache.getImage(imageStorages[i][j], width, height);
+                ImageView imageView = rects[i][j];
+                imageView.setImage(selectedImage);
                 imageView.setFitWidth(width);
                 imageView.setFitHeight(height);
 //                imageView.setEffect(new GaussianBlur(0));
-                rects[i][j] = imageView;
                 bounds[i][j] = new BoundingBox(i * (width + 10) + 5 + config.layoutX, j * (height + 8) + 4 + config.layoutY, width, height);
                 rects[i][j].setOpacity(0);
                 rects[i][j].setLayoutX(bounds[i][j].getMinX());
@@ -178,6 +238,13 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
         return fadeIn;
     }
 
+    private static ImageView createCell() {
+        final ImageView imageView = new ImageView();
+        imageView.setCache(true);
+        imageView.setCacheHint(CacheHint.SPEED);
+        return imageView;
+    }
+
     private ImageWallAnimationTransition createHighlightAndZoomTransition() {
         // select next random not but not previously shown image
         int index;
@@ -189,6 +256,10 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
         int row = index / config.columns;
 
         ImageView randomView = rects[column][row];
+        final Image thumbnail = randomView.getImage();
+        if (null != imageStorages[column][row]) {
+            randomView.setImage(imageCache.getImage(imageStorages[column][row], 0, 0));
+        }
         randomView.toFront();
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
@@ -251,7 +322,7 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
 //            randomView.setEffect(ds);
         });
 
-        return new ImageWallAnimationTransition(seqT, column, row);
+        return new ImageWallAnimationTransition(seqT, column, row, thumbnail);
     }
 
     private Transition createReverseHighlightAndZoomTransition(final int column, final int row) {
@@ -298,11 +369,13 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
         private final Transition transition;
         private final int column;
         private final int row;
+        private final Image thumbnail;
 
-        private ImageWallAnimationTransition(final Transition transition, final int column, final int row) {
+        private ImageWallAnimationTransition(final Transition transition, final int column, final int row, final Image thumbnail) {
             this.transition = transition;
             this.column = column;
             this.row = row;
+            this.thumbnail = thumbnail;
         }
     }
 
@@ -356,6 +429,11 @@ public class DevoxxPhotoSharingMosaicStep implements Step {
                     : (int) (numberOfImagesToChooseFromExtension * columns * rows);
         }
 
+        /**
+         * The number of cells showing the most liked of the available images.
+         */
+        public int numberOfPopularImages = 5;
+
         public double percentageForHighlightImage = 0.8D;
         public double resizeAndHighlightTransitionTime = 2.5D;
         public int numberOfHighlights = 3;
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes downloads on a fixed number of virtual threads in the order of
+ * their priority, the newest first.
+ *
+ * <p>
+ * The number of pending downloads is bounded. Submitting a download blocks
+ * while the maximum number of downloads is pending, so that the producer of
+ * the downloads does not outpace their execution.
+ */
+final class DownloadPipeline {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DownloadPipeline.class);
+    private final PriorityQueue<Download> pending = new PriorityQueue<>(
+            Comparator.comparing(Download::priority).reversed().thenComparingLong(Download::sequence));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final int capacity;
+    private long sequence = 0;
+
+    /**
+     * Creates a pipeline and starts its download threads.
+     *
+     * @param name the name used for the download threads
+     * @param concurrency the number of downloads executed at the same time
+     * @param capacity the maximum number of pending downloads
+     */
+    DownloadPipeline(final String name, final int concurrency, final int capacity) {
+        this.capacity = capacity;
+
+        for (int i = 0; i < concurrency; i++) {
+            Thread.ofVirtual().name(name + "-" + i).start(this::executeDownloads);
+        }
+    }
+
+    /**
+     * Submits a download for execution. Blocks while the maximum number of
+     * downloads is pending.
+     *
+     * @param priority the priority of the download, newer instants are
+     * downloaded first
+     * @param download the download to execute
+     */
+    void submit(final Instant priority, final Runnable download) {
+        Objects.requireNonNull(priority, "priority must not be null!");
+        Objects.requireNonNull(download, "download must not be null!");
+
+        lock.lock();
+        try {
+            while (pending.size() >= capacity) {
+                notFull.await();
+            }
+
+            pending.add(new Download(priority, sequence++, download));
+            notEmpty.signal();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while submitting download. Download is skipped.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of downloads pending execution.
+     *
+     * @return the number of pending downloads
+     */
+    int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void executeDownloads() {
+        while (true) {
+            final Download download;
+
+            lock.lock();
+            try {
+                while (pending.isEmpty()) {
+                    notEmpty.await();
+                }
+
+                download = pending.remove();
+                notFull.signal();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                download.download().run();
+            } catch (final RuntimeException e) {
+                LOG.warn("Download failed", e);
+            }
+        }
+    }
+
+    private static record Download(Instant priority, long sequence, Runnable download) {
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.tweetwallfx.conference.impl.PersistentFile.readString;
+import static org.tweetwallfx.conference.impl.PersistentFile.writeString;
+
+import com.flickr4java.flickr.FlickrException;
+import com.flickr4java.flickr.photos.Exif;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Enriches Flickr photos with information taken from their EXIF data.
+ *
+ * <p>
+ * The EXIF data of a photo is requested in the background one photo at a
+ * time, the newest photo first, with a pause between the requests. Thus the
+ * enrichment neither delays loading the photos nor takes up the requests
+ * available for it. The extracted information is stored in a
+ * {@link PersistentFile}, so that the EXIF data of a photo is requested only
+ * once.
+ */
+final class ExifEnrichment {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExifEnrichment.class);
+    private static final int MAGIC = 0x54574645;
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * The error codes of {@code flickr.photos.getExif} telling that the EXIF
+     * data of a photo is not available: the photo was not found or its owner
+     * hides the EXIF data.
+     */
+    private static final Set<String> EXIF_UNAVAILABLE = Set.of("1", "2");
+    private final Duration requestInterval;
+    private final Function<String, List<Exif>> exifLoader;
+    private final ExecutorService requests;
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final Map<String, ExifInfo> exifInfos = new ConcurrentHashMap<>();
+    private final Set<String> pendingPhotoIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final PersistentFile<Long> persistentFile;
+
+    /**
+     * Creates the enrichment and restores the information extracted before
+     * from the given file.
+     *
+     * @param file the file the extracted information is stored in
+     * @param requestInterval the pause between two EXIF requests
+     * @param exifLoader loads the EXIF data of the photo with the given ID
+     */
+    ExifEnrichment(final Path file, final Duration requestInterval, final Function<String, List<Exif>> exifLoader) {
+        this.requestInterval = Objects.requireNonNull(requestInterval, "requestInterval must not be null!");
+        this.exifLoader = Objects.requireNonNull(exifLoader, "exifLoader must not be null!");
+        // a single thread, as the requests are spread out over time anyway, the newest photo first
+        this.requests = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                Thread.ofVirtual().name("flickr-exif-", 0).factory());
+        this.persistentFile = new PersistentFile<>(file, MAGIC, FORMAT_VERSION, "EXIF information",
+                modificationCount::get, (out, _) -> writeTo(out));
+
+        if (persistentFile.restore(this::restoreFrom).isEmpty()) {
+            exifInfos.clear();
+        }
+    }
+
+    /**
+     * Gets the information extracted from the EXIF data of the photo with the
+     * given ID.
+     *
+     * @param photoId the ID of the photo
+     *
+     * @return the extracted information or an empty Optional if the EXIF data
+     * of the photo has not been loaded so far
+     */
+    Optional<ExifInfo> get(final String photoId) {
+        return Optional.ofNullable(exifInfos.get(photoId));
+    }
+
+    /**
+     * Requests the EXIF data of the photo with the given ID to be loaded
+     * unless it has been loaded or requested already. Does not block.
+     *
+     * @param photoId the ID of the photo
+     * @param priority the priority of the request, newer instants are
+     * requested first
+     */
+    void request(final String photoId, final Instant priority) {
+        if (exifInfos.containsKey(photoId) || !pendingPhotoIds.add(photoId)) {
+            return;
+        }
+
+        requests.execute(new ExifRequest(priority, requestSequence.getAndIncrement(), () -> {
+            try {
+                load(photoId);
+            } finally {
+                pendingPhotoIds.remove(photoId);
+            }
+
+            try {
+                Thread.sleep(requestInterval);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    private void load(final String photoId) {
+        ExifInfo exifInfo;
+
+        try {
+            exifInfo = ExifInfo.of(exifLoader.apply(photoId));
+        } catch (final CompletionException e) {
+            if (!(e.getCause() instanceof FlickrException flickrException)
+                    || !EXIF_UNAVAILABLE.contains(flickrException.getErrorCode())) {
+                // e.g. Flickr is unavailable, so the EXIF data is requested again once the photo is loaded again
+                LOG.info("Failed to load EXIF data of photo {}", photoId, e);
+                return;
+            }
+
+            // the photo is gone or its owner hides the EXIF data, so requesting it again is pointless
+            LOG.debug("No EXIF data available for photo {}", photoId, e);
+            exifInfo = ExifInfo.NONE;
+        }
+
+        exifInfos.put(photoId, exifInfo);
+        modificationCount.incrementAndGet();
+        requestWrite();
+    }
+
+    /**
+     * Requests the extracted information to be written. The write happens on
+     * a virtual thread after a short delay collecting further changes.
+     */
+    void requestWrite() {
+        persistentFile.requestWrite();
+    }
+
+    /**
+     * Writes the extracted information on the calling thread unless nothing
+     * changed since the last write. Failures are logged.
+     */
+    void writeNow() {
+        persistentFile.writeNow();
+    }
+
+    private int restoreFrom(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            final String photoId = readString(buffer);
+            final String orientation = readString(buffer);
+            final String cameraMake = readString(buffer);
+            final String cameraModel = readString(buffer);
+
+            if (null == photoId) {
+                throw new IllegalArgumentException("EXIF information " + i + " is incomplete");
+            }
+
+            exifInfos.put(photoId, new ExifInfo(
+                    null == orientation ? null : Orientation.valueOf(orientation),
+                    cameraMake,
+                    cameraModel));
+        }
+
+        persistentFile.markWritten();
+        LOG.info("Restored EXIF information of {} photos", exifInfos.size());
+        return exifInfos.size();
+    }
+
+    private void writeTo(final DataOutputStream out) throws IOException {
+        final Collection<Map.Entry<String, ExifInfo>> currentExifInfos = List.copyOf(exifInfos.entrySet());
+        out.writeInt(currentExifInfos.size());
+
+        for (final Map.Entry<String, ExifInfo> exifInfo : currentExifInfos) {
+            writeString(out, exifInfo.getKey());
+            writeString(out, Optional.ofNullable(exifInfo.getValue().orientation()).map(Orientation::name).orElse(null));
+            writeString(out, exifInfo.getValue().cameraMake());
+            writeString(out, exifInfo.getValue().cameraModel());
+        }
+    }
+
+    /**
+     * A pending request of EXIF data, ordered by its priority, the newest
+     * first.
+     *
+     * @param priority the priority of the request
+     * @param sequence the sequence number of the request keeping the order of
+     * equal priorities
+     * @param request the request
+     */
+    private static record ExifRequest(Instant priority, long sequence, Runnable request)
+            implements Runnable, Comparable<ExifRequest> {
+
+        private static final Comparator<ExifRequest> NEWEST_FIRST = Comparator.comparing(ExifRequest::priority).reversed()
+                .thenComparingLong(ExifRequest::sequence);
+
+        @Override
+        public void run() {
+            request.run();
+        }
+
+        @Override
+        public int compareTo(final ExifRequest other) {
+            return NEWEST_FIRST.compare(this, other);
+        }
+    }
+
+    /**
+     * The orientation of a photo as it is displayed.
+     */
+    enum Orientation {
+        LANDSCAPE,
+        PORTRAIT,
+        SQUARE;
+    }
+
+    /**
+     * The information extracted from the EXIF data of a photo.
+     *
+     * @param orientation the orientation of the photo or {@code null} if
+     * unknown
+     * @param cameraMake the make of the camera the photo was taken with or
+     * {@code null} if unknown
+     * @param cameraModel the model of the camera the photo was taken with or
+     * {@code null} if unknown
+     */
+    static record ExifInfo(Orientation orientation, String cameraMake, String cameraModel) {
+
+        static final String ORIENTATION = "orientation";
+        static final String CAMERA_MAKE = "cameraMake";
+        static final String CAMERA_MODEL = "cameraModel";
+        static final ExifInfo NONE = new ExifInfo(null, null, null);
+        private static final Pattern LEADING_NUMBER = Pattern.compile("^\\d+");
+
+        /**
+         * Extracts the information from the given EXIF data.
+         *
+         * @param exifs the EXIF data of a photo
+         *
+         * @return the extracted information
+         */
+        static ExifInfo of(final Collection<Exif> exifs) {
+            final Map<String, String> values = new HashMap<>();
+            exifs.stream()
+                    .filter(exif -> null != exif.getTag() && null != exif.getRaw())
+                    // the first of the values of a tag present in several tag spaces is used
+                    .forEach(exif -> values.putIfAbsent(exif.getTag(), exif.getRaw().trim()));
+
+            final Optional<Integer> width = integer(values.get("ExifImageWidth")).or(() -> integer(values.get("ImageWidth")));
+            final Optional<Integer> height = integer(values.get("ExifImageHeight")).or(() -> integer(values.get("ImageHeight")));
+            // e.g. "Rotate 90 CW" or "Mirror horizontal and rotate 270 CW"
+            final boolean rotated = Optional.ofNullable(values.get("Orientation"))
+                    .map(o -> o.toLowerCase(Locale.ROOT))
+                    .filter(o -> o.contains("rotate 90") || o.contains("rotate 270"))
+                    .isPresent();
+
+            return new ExifInfo(
+                    width.isEmpty() || height.isEmpty()
+                    ? null
+                    : orientation(rotated ? height.get() : width.get(), rotated ? width.get() : height.get()),
+                    values.get("Make"),
+                    values.get("Model"));
+        }
+
+        /**
+         * Creates the information stored in the additional info of the
+         * {@link org.tweetwallfx.stepengine.dataproviders.ImageStorage} of
+         * the photo.
+         *
+         * @return the additional info
+         */
+        Map<String, Object> additionalData() {
+            final Map<String, Object> additionalData = new TreeMap<>();
+            Optional.ofNullable(orientation).ifPresent(o -> additionalData.put(ORIENTATION, o));
+            Optional.ofNullable(cameraMake).ifPresent(m -> additionalData.put(CAMERA_MAKE, m));
+            Optional.ofNullable(cameraModel).ifPresent(m -> additionalData.put(CAMERA_MODEL, m));
+            return additionalData;
+        }
+
+        private static Orientation orientation(final int width, final int height) {
+            return width > height
+                    ? Orientation.LANDSCAPE
+                    : width < height ? Orientation.PORTRAIT : Orientation.SQUARE;
+        }
+
+        private static Optional<Integer> integer(final String value) {
+            if (null == value) {
+                return Optional.empty();
+            }
+
+            // e.g. "6000" or "6000 pixels"
+            final Matcher matcher = LEADING_NUMBER.matcher(value);
+            try {
+                return matcher.find() ? Optional.of(Integer.valueOf(matcher.group())) : Optional.empty();
+            } catch (final NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
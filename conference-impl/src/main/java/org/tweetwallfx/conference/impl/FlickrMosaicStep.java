@@ -37,8 +37,10 @@ import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.SequentialTransition;
 import javafx.animation.Transition;
+import javafx.application.Platform;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
+import javafx.geometry.Dimension2D;
 import javafx.scene.CacheHint;
 import javafx.scene.effect.GaussianBlur;
 import javafx.scene.image.Image;
@@ -47,6 +49,7 @@ import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.conference.impl.ExifEnrichment.Orientation;
 import org.tweetwallfx.controls.WordleSkin;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.Step;
@@ -62,14 +65,24 @@ public class FlickrMosaicStep implements Step {
     private final Config config;
     private static final Random RANDOM = new SecureRandom();
     private final ImageView[][] rects;
+    private final ImageStorage[][] imageStorages;
     private final Bounds[][] bounds;
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
+    private ImageCache imageCache;
+    private FlickrPhotoDataProvider dataProvider;
     private int count = 0;
 
     private FlickrMosaicStep(Config config) {
         this.config = config;
         rects = new ImageView[config.columns][config.rows];
+        // the cells are reused by all mosaics, only their images are replaced
+        for (int i = 0; i < config.columns; i++) {
+            for (int j = 0; j < config.rows; j++) {
+                rects[i][j] = createCell();
+            }
+        }
+        imageStorages = new ImageStorage[config.columns][config.rows];
         bounds = new Bounds[config.columns][config.rows];
     }
 
@@ -88,15 +101,22 @@ public class FlickrMosaicStep implements Step {
     @Override
     public void doStep(final MachineContext context) {
         WordleSkin wordleSkin = (WordleSkin) context.get("WordleSkin");
-        FlickrPhotoDataProvider dataProvider = context.getDataProvider(FlickrPhotoDataProvider.class);
+        dataProvider = context.getDataProvider(FlickrPhotoDataProvider.class);
         pane = wordleSkin.getPane();
-        Transition createMosaicTransition = createMosaicTransition(dataProvider
+        imageCache = dataProvider.getImageCache();
+        final List<ImageStorage> images = dataProvider
                 .getAccess()
-                .getImages(config.getNumberOfImagesToChooseFromCalculated()));
-        createMosaicTransition.setOnFinished(event
-                -> executeAnimations(context));
-
-        createMosaicTransition.play();
+                .getImages(config.getNumberOfImagesToChooseFromCalculated());
+        Collections.shuffle(images, RANDOM);
+        final List<ImageStorage> selectedImages = new ArrayList<>(images.subList(0, Math.min(config.countMosaicCells(), images.size())));
+        // the images are loaded off the JavaFX application thread
+        imageCache.preload(selectedImages).whenComplete((_, _) -> Platform.runLater(() -> {
+            Transition createMosaicTransition = createMosaicTransition(selectedImages);
+            createMosaicTransition.setOnFinished(event
+                    -> executeAnimations(context));
+
+            createMosaicTransition.play();
+        }));
     }
 
     @Override
@@ -105,8 +125,15 @@ public class FlickrMosaicStep implements Step {
     }
 
     private void executeAnimations(final MachineContext context) {
+        final int index = selectHighlightIndex();
+        // the highlight image is loaded off the JavaFX application thread
+        imageCache.preloadHighlight(imageStorages[index % config.columns][index / config.columns])
+                .whenComplete((_, _) -> Platform.runLater(() -> executeAnimations(context, index)));
+    }
+
+    private void executeAnimations(final MachineContext context, final int index) {
         ImageWallAnimationTransition highlightAndZoomTransition
-                = createHighlightAndZoomTransition();
+                = createHighlightAndZoomTransition(index);
         highlightAndZoomTransition.transition.play();
         highlightAndZoomTransition.transition.setOnFinished(event1 -> {
             Transition revert
@@ -114,6 +141,9 @@ public class FlickrMosaicStep implements Step {
             revert.setDelay(Duration.seconds(3));
             revert.play();
             revert.setOnFinished(event -> {
+                // release the highlight image of the highlighted photo
+                rects[highlightAndZoomTransition.column][highlightAndZoomTransition.row]
+                        .setImage(highlightAndZoomTransition.thumbnail);
                 count++;
                 if (count < config.numberOfHighlights) {
                     executeAnimations(context);
@@ -131,6 +161,8 @@ public class FlickrMosaicStep implements Step {
                         for (int i = 0; i < config.columns; i++) {
                             for (int j = 0; j < config.rows; j++) {
                                 pane.getChildren().remove(rects[i][j]);
+                                rects[i][j].setImage(null);
+                                imageStorages[i][j] = null;
                             }
                         }
                         highlightedIndexes.clear();
@@ -142,25 +174,24 @@ public class FlickrMosaicStep implements Step {
         });
     }
 
-    private Transition createMosaicTransition(final List<ImageStorage> imageStorages) {
+    private Transition createMosaicTransition(final List<ImageStorage> images) {
         final SequentialTransition fadeIn = new SequentialTransition();
         final List<FadeTransition> allFadeIns = new ArrayList<>();
         final double width = (0 != config.width ? config.width : pane.getWidth()) / (double) config.columns - 10;
         final double height = (0 != config.height ? config.height : pane.getHeight()) / (double) config.rows - 8;
-        final List<ImageStorage> distillingList = imageStorages; // mutable list required
+        final List<ImageStorage> distillingList = images; // mutable list required
         final Duration individualFadeInTransitionDuration = Duration.seconds(config.determineActualIndividualFadeInDuration());
 
         for (int i = 0; i < config.columns; i++) {
             for (int j = 0; j < config.rows; j++) {
                 int index = RANDOM.nextInt(distillingList.size());
-                Image selectedImage = distillingList.remove(index).getImage();
-                ImageView imageView = new ImageView(selectedImage);
-                imageView.setCache(true);
-                imageView.setCacheHint(CacheHint.SPEED);
+                imageStorages[i][j] = distillingList.remove(index);
+                // decoded at the size of the cell it is stretched into
+                ImageView imageView = rects[i][j];
+                imageView.setImage(imageCache.getImage(imageStorages[i][j], width, height));
                 imageView.setFitWidth(width);
                 imageView.setFitHeight(height);
 //                imageView.setEffect(new GaussianBlur(0));
-                rects[i][j] = imageView;
                 bounds[i][j] = new BoundingBox(i * (width + 10) + 5 + config.layoutX, j * (height + 8) + 4 + config.layoutY, width, height);
                 rects[i][j].setOpacity(0);
                 rects[i][j].setLayoutX(bounds[i][j].getMinX());
@@ -176,17 +207,42 @@ public class FlickrMosaicStep implements Step {
         return fadeIn;
     }
 
-    private ImageWallAnimationTransition createHighlightAndZoomTransition() {
+    private static ImageView createCell() {
+        final ImageView imageView = new ImageView();
+        imageView.setCache(true);
+        imageView.setCacheHint(CacheHint.SPEED);
+        return imageView;
+    }
+
+    private int selectHighlightIndex() {
         // select next random not but not previously shown image
-        int index;
-        do {
-            index = RANDOM.nextInt(config.countMosaicCells());
-        } while (!highlightedIndexes.add(index));
+        final List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < config.countMosaicCells(); i++) {
+            if (!highlightedIndexes.contains(i)) {
+                candidates.add(i);
+            }
+        }
+        if (config.preferLandscapeHighlights) {
+            // landscape photos make better use of the highlight area
+            final List<Integer> landscapeCandidates = candidates.stream()
+                    .filter(this::isLandscape)
+                    .toList();
+            if (!landscapeCandidates.isEmpty()) {
+                candidates.retainAll(landscapeCandidates);
+            }
+        }
+        int index = candidates.get(RANDOM.nextInt(candidates.size()));
+        highlightedIndexes.add(index);
+        return index;
+    }
 
+    private ImageWallAnimationTransition createHighlightAndZoomTransition(final int index) {
         int column = index % config.columns;
         int row = index / config.columns;
 
         ImageView randomView = rects[column][row];
+        final Image thumbnail = randomView.getImage();
+        randomView.setImage(imageCache.getHighlightImage(imageStorages[column][row]));
         randomView.toFront();
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
@@ -249,7 +305,13 @@ public class FlickrMosaicStep implements Step {
 //            randomView.setEffect(ds);
         });
 
-        return new ImageWallAnimationTransition(seqT, column, row);
+        return new ImageWallAnimationTransition(seqT, column, row, thumbnail);
+    }
+
+    private boolean isLandscape(final int index) {
+        return dataProvider.getOrientation(imageStorages[index % config.columns][index / config.columns])
+                .filter(Orientation.LANDSCAPE::equals)
+                .isPresent();
     }
 
     private Transition createReverseHighlightAndZoomTransition(final int column, final int row) {
@@ -296,11 +358,13 @@ public class FlickrMosaicStep implements Step {
         private final Transition transition;
         private final int column;
         private final int row;
+        private final Image thumbnail;
 
-        private ImageWallAnimationTransition(final Transition transition, final int column, final int row) {
+        private ImageWallAnimationTransition(final Transition transition, final int column, final int row, final Image thumbnail) {
             this.transition = transition;
             this.column = column;
             this.row = row;
+            this.thumbnail = thumbnail;
         }
     }
 
@@ -330,6 +394,12 @@ public class FlickrMosaicStep implements Step {
 
     public static class Config extends AbstractConfig {
 
+        /**
+         * Size of the pane assumed for the calculation of the display area when
+         * neither {@link #width} nor {@link #height} are configured.
+         */
+        private static final Dimension2D DEFAULT_PANE_SIZE = new Dimension2D(1920, 1080);
+
         public double layoutX = 0D;
         public double layoutY = 0D;
         public double width = 0D;
@@ -362,6 +432,38 @@ public class FlickrMosaicStep implements Step {
         public double percentageForHighlightImage = 0.8D;
         public double resizeAndHighlightTransitionTime = 2.5D;
         public int numberOfHighlights = 3;
+        /**
+         * Prefer photos in landscape orientation for the highlights. Takes
+         * effect if the EXIF enrichment of {@link FlickrPhotoDataProvider} is
+         * enabled.
+         */
+        public boolean preferLandscapeHighlights = true;
+
+        /**
+         * Determines the area in which an image is displayed in a mosaic cell.
+         *
+         * @return the display area of a mosaic cell
+         */
+        Dimension2D cellDisplayArea() {
+            return new Dimension2D(paneWidth() / columns - 10, paneHeight() / rows - 8);
+        }
+
+        /**
+         * Determines the area in which a highlighted image is displayed.
+         *
+         * @return the display area of a highlighted image
+         */
+        Dimension2D highlightDisplayArea() {
+            return new Dimension2D(paneWidth() * percentageForHighlightImage, paneHeight() * percentageForHighlightImage);
+        }
+
+        private double paneWidth() {
+            return 0 != width ? width : DEFAULT_PANE_SIZE.getWidth();
+        }
+
+        private double paneHeight() {
+            return 0 != height ? height : DEFAULT_PANE_SIZE.getHeight();
+        }
 
         public double maxCumulativeFadeInDuration = 6D;
         public double maxIndividualFadeInDuration = 0.3D;
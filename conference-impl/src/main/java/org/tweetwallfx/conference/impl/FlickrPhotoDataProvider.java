@@ -24,21 +24,37 @@
 package org.tweetwallfx.conference.impl;
 
 import com.flickr4java.flickr.photos.Photo;
+import com.flickr4java.flickr.photos.Size;
 import com.flickr4java.flickr.photosets.Photoset;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import javafx.geometry.Dimension2D;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.tweetwallfx.cache.URLContentCacheBase;
+import org.tweetwallfx.conference.impl.ExifEnrichment.ExifInfo;
+import org.tweetwallfx.conference.impl.ExifEnrichment.Orientation;
+import org.tweetwallfx.conference.impl.PhotoIndex.PhotosetState;
+import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.stepengine.dataproviders.ImageStorage;
 import org.tweetwallfx.stepengine.dataproviders.ImageStorageDataProvider;
 import org.tweetwallfx.util.Nullable;
 
@@ -46,12 +62,67 @@ public class FlickrPhotoDataProvider
         extends ImageStorageDataProvider.Base
         implements DataProvider.Scheduled {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FlickrPhotoDataProvider.class);
     private final Config config;
+    private final ImageCache imageCache;
+    private final DownloadPipeline downloads;
+    private final Optional<Dimension2D> cellDisplayArea;
+    private final Optional<Dimension2D> highlightDisplayArea;
+    private final PhotoIndex photoIndex;
+    /**
+     * IDs of the photos submitted for download but not yet indexed.
+     */
+    private final Set<String> pendingPhotoIds = ConcurrentHashMap.newKeySet();
+    private final Optional<ExifEnrichment> exifEnrichment;
     private volatile boolean initialized = false;
 
     private FlickrPhotoDataProvider(final Config config) {
         super(config.cacheSize());
         this.config = config;
+        this.imageCache = new ImageCache(config.encodedImageBudget(), config.decodedImageBudget());
+        this.downloads = new DownloadPipeline("flickr-download", config.downloadConcurrency(), config.downloadQueueSize());
+        this.photoIndex = new PhotoIndex(config.indexPath());
+        this.exifEnrichment = config.exifEnrichment()
+                ? Optional.of(new ExifEnrichment(
+                        config.exifCachePath(),
+                        Duration.ofMillis(config.exifRequestInterval()),
+                        photoId -> FlickrService.getInstance().getExif(photoId)))
+                : Optional.empty();
+        this.cellDisplayArea = largestDisplayArea(FlickrMosaicStep.Config::cellDisplayArea);
+        this.highlightDisplayArea = largestDisplayArea(FlickrMosaicStep.Config::highlightDisplayArea);
+        cellDisplayArea.ifPresent(area -> LOG.info("Selecting Flickr photo sizes covering {} x {} for mosaic cells", area.getWidth(), area.getHeight()));
+        highlightDisplayArea.ifPresent(area -> LOG.info("Selecting Flickr photo sizes covering {} x {} for highlights", area.getWidth(), area.getHeight()));
+    }
+
+    /**
+     * Provides the memory bounded cache of the images of this provider.
+     *
+     * @return the image cache
+     */
+    ImageCache getImageCache() {
+        return imageCache;
+    }
+
+    /**
+     * Determines the orientation of the photo stored in the given
+     * {@link ImageStorage} from its EXIF data. The orientation is only known
+     * if the EXIF enrichment is enabled and the EXIF data of the photo has
+     * been loaded.
+     *
+     * @param imageStorage the storage of the photo
+     *
+     * @return the orientation of the photo or an empty Optional if unknown
+     */
+    Optional<Orientation> getOrientation(final ImageStorage imageStorage) {
+        final Map<String, Object> additionalInfo = imageStorage.getAdditionalInfo();
+
+        return Optional.ofNullable(additionalInfo.get(ExifInfo.ORIENTATION))
+                .map(Orientation.class::cast)
+                // EXIF data loaded after the photo has been added
+                .or(() -> Optional.ofNullable(additionalInfo.get("photoId"))
+                        .map(String.class::cast)
+                        .flatMap(photoId -> exifEnrichment.flatMap(ee -> ee.get(photoId)))
+                        .map(ExifInfo::orientation));
     }
 
     @Override
@@ -71,12 +142,31 @@ public class FlickrPhotoDataProvider
 
     @Override
     public void run() {
+        if (!initialized && restorePhotos() > 0) {
+            // photos known from the previous run are available right away
+            initialized = true;
+        }
+
         loadPhotos();
         initialized = true;
     }
 
+    private int restorePhotos() {
+        final int restoredPhotos = photoIndex.restore();
+        final URLContentCacheBase cacheBase = URLContentCacheBase.getDefault();
+
+        photoIndex.entries().stream()
+                .filter(entry -> null != entry.storageDate())
+                .sorted(Comparator.comparing(PhotoIndex.Entry::storageDate))
+                .forEach(entry -> add(
+                        () -> cacheBase.getCachedOrLoad(entry.imageUrl()),
+                        entry.storageDate(),
+                        additionalData(entry)));
+        return restoredPhotos;
+    }
+
     private void loadPhotos() {
-        final FlickrService fs = new FlickrService();
+        final FlickrService fs = FlickrService.getInstance();
 
         // determine photoset to load from all available ones
         final List<Photoset> photosets = fs.getAllPhotosets().stream()
@@ -85,36 +175,239 @@ public class FlickrPhotoDataProvider
 
         final URLContentCacheBase cacheBase = URLContentCacheBase.getDefault();
         for (final Photoset photoset : photosets) {
-            for (Photo photo : fs.loadAllPhotos(photoset)) {
-                final Map<String, Object> additionalData = new TreeMap<>();
-                additionalData.put("photoId", photo.getId());
-                additionalData.put("photosetId", photoset.getId());
-                additionalData.put("dateAdded", Optional.ofNullable(photo.getDateAdded()).map(FlickrPhotoDataProvider::date).map(Object::toString).orElse("N/A"));
-                additionalData.put("datePosted", Optional.ofNullable(photo.getDatePosted()).map(FlickrPhotoDataProvider::date).map(Object::toString).orElse("N/A"));
-                additionalData.put("dateTaken", Optional.ofNullable(photo.getDateTaken()).map(FlickrPhotoDataProvider::date).map(Object::toString).orElse("N/A"));
-//                additionalData.put(ImageStorage.KEY_CATEGORY, photoset.getTitle()); // for grouping pictures by day/album
-
-                Stream.of(
-//                        photo.getOriginalSize(),
-                        photo.getLargeSize(),
-                        photo.getMediumSize(),
-                        photo.getSmallSize())
-                        .filter(Objects::nonNull)
-                        .findAny()
-                        .ifPresent(s -> cacheBase.getCachedOrLoad(
-                        s.getSource(),
-                        uc -> add(
-                                () -> cacheBase.getCachedOrLoad(s.getSource()),
-                                date(photo.getDateTaken()),
-                                additionalData)));
+            final PhotosetState previousState = photoIndex.photosetState(photoset.getId());
+            final PhotosetState currentState = new PhotosetState(photoset.getPhotoCount(), photoset.getDateUpdate());
+
+            if (currentState.equals(previousState)) {
+                LOG.debug("Photoset '{}' is unchanged", photoset.getTitle());
+                continue;
             }
+
+            final Stream<List<Photo>> pages = loadAddedPhotos(fs, photoset, previousState, currentState)
+                    .map(Stream::of)
+                    // first load or photos have been removed / reordered / inserted
+                    .orElseGet(() -> fs.loadAllPhotos(photoset));
+
+            final PhotosetLoad photosetLoad = new PhotosetLoad(photoset, currentState);
+            // photos of a page are loaded while the remaining pages are still being requested
+            final int loadedPhotos = pages
+                    .mapToInt(page -> {
+                        page.forEach(photo -> loadPhoto(cacheBase, photosetLoad, photo));
+                        return page.size();
+                    })
+                    .sum();
+            LOG.info("Loaded {} photos of photoset '{}', {} downloads pending", loadedPhotos, photoset.getTitle(), downloads.pendingCount());
+            photosetLoad.release(true);
         }
     }
 
+    /**
+     * Loads the photos appended to the photoset since it has been loaded
+     * before. The loaded tail of the photoset has to consist of the last of
+     * the previously loaded photos followed by unknown photos only, which is
+     * not the case if photos were inserted elsewhere or were removed as well.
+     *
+     * @return the appended photos or empty if the photoset has to be loaded
+     * completely
+     */
+    private Optional<List<Photo>> loadAddedPhotos(final FlickrService fs, final Photoset photoset,
+            final PhotosetState previousState, final PhotosetState currentState) {
+        if (null == previousState
+                || 0 == previousState.photoCount()
+                || currentState.photoCount() <= previousState.photoCount()) {
+            return Optional.empty();
+        }
+
+        final List<Photo> tail = fs.loadPhotosAddedSince(photoset, previousState.photoCount())
+                .flatMap(List::stream)
+                .toList();
+        final long unknownPhotos = tail.stream()
+                .filter(photo -> !photoIndex.contains(photo.getId()) && !pendingPhotoIds.contains(photo.getId()))
+                .count();
+
+        if (tail.size() - 1 != currentState.photoCount() - previousState.photoCount()
+                || unknownPhotos != tail.size() - 1) {
+            LOG.info("Photos of photoset '{}' have not only been appended, loading it completely", photoset.getTitle());
+            return Optional.empty();
+        }
+
+        return Optional.of(tail);
+    }
+
+    private void loadPhoto(final URLContentCacheBase cacheBase, final PhotosetLoad photosetLoad, final Photo photo) {
+        if (photoIndex.contains(photo.getId())) {
+            return;
+        }
+
+        if (pendingPhotoIds.contains(photo.getId())) {
+            // submitted by a previous run, its outcome is not tracked by this load
+            photosetLoad.markIncomplete();
+            return;
+        }
+
+        cellDisplayArea.flatMap(area -> selectSize(photo.getSizes(), area))
+                .or(() -> fallbackSize(photo))
+                .ifPresent(s -> {
+                    final PhotoIndex.Entry entry = new PhotoIndex.Entry(
+                            photo.getId(),
+                            photosetLoad.photoset.getId(),
+                            Optional.ofNullable(photo.getDateAdded()).map(FlickrPhotoDataProvider::date).orElse(null),
+                            Optional.ofNullable(photo.getDatePosted()).map(FlickrPhotoDataProvider::date).orElse(null),
+                            Optional.ofNullable(photo.getDateTaken()).map(FlickrPhotoDataProvider::date).orElse(null),
+                            s.getSource(),
+                            // downloaded only once the photo is highlighted
+                            highlightDisplayArea.flatMap(area -> selectSize(photo.getSizes(), area))
+                                    .or(() -> fallbackSize(photo))
+                                    .orElse(s)
+                                    .getSource());
+
+                    if (null == entry.storageDate()) {
+                        LOG.debug("Skipping photo {} without date", photo.getId());
+                        return;
+                    }
+
+                    pendingPhotoIds.add(entry.photoId());
+                    photosetLoad.acquire();
+                    // newest photos are downloaded first
+                    downloads.submit(
+                            entry.storageDate(),
+                            () -> {
+                                boolean indexed = false;
+                                try {
+                                    cacheBase.getCachedOrLoad(entry.imageUrl());
+                                    add(
+                                            () -> cacheBase.getCachedOrLoad(entry.imageUrl()),
+                                            entry.storageDate(),
+                                            additionalData(entry));
+                                    photoIndex.put(entry);
+                                    photoIndex.requestWrite();
+                                    indexed = true;
+                                } finally {
+                                    pendingPhotoIds.remove(entry.photoId());
+                                    photosetLoad.release(indexed);
+                                }
+                            });
+                });
+    }
+
+    private Map<String, Object> additionalData(final PhotoIndex.Entry entry) {
+        final Map<String, Object> additionalData = entry.additionalData();
+
+        exifEnrichment.ifPresent(ee -> ee.get(entry.photoId()).ifPresentOrElse(
+                exifInfo -> additionalData.putAll(exifInfo.additionalData()),
+                // loaded in the background without delaying the photo
+                () -> ee.request(entry.photoId(), Objects.requireNonNullElse(entry.storageDate(), Instant.EPOCH))));
+        return additionalData;
+    }
+
+    /**
+     * Selects the size of a photo in case no display area is known.
+     */
+    private static Optional<Size> fallbackSize(final Photo photo) {
+        return Stream.of(
+//                photo.getOriginalSize(),
+                photo.getLargeSize(),
+                photo.getMediumSize(),
+                photo.getSmallSize())
+                .filter(Objects::nonNull)
+                .findAny();
+    }
+
+    /**
+     * Selects the smallest of the given sizes covering the display area. In
+     * case none of them covers it the largest size is selected.
+     *
+     * @param sizes the available sizes of a photo
+     * @param displayArea the area the photo is displayed in
+     *
+     * @return the selected size or an empty Optional if none of the sizes is
+     * usable
+     */
+    static Optional<Size> selectSize(final Collection<Size> sizes, final Dimension2D displayArea) {
+        final List<Size> usableSizes = sizes.stream()
+                // sizes not provided by Flickr are null
+                .filter(Objects::nonNull)
+                .filter(s -> null != s.getSource() && s.getWidth() > 0 && s.getHeight() > 0)
+                .toList();
+        final Comparator<Size> byPixels = Comparator.comparingLong(s -> (long) s.getWidth() * s.getHeight());
+
+        return usableSizes.stream()
+                // the image is scaled to fit into the display area with its aspect ratio preserved
+                .filter(s -> s.getWidth() >= displayArea.getWidth() || s.getHeight() >= displayArea.getHeight())
+                .min(byPixels)
+                .or(() -> usableSizes.stream().max(byPixels));
+    }
+
+    /**
+     * Determines the largest of the given display areas of the configured
+     * {@link FlickrMosaicStep}s.
+     */
+    private static Optional<Dimension2D> largestDisplayArea(final Function<FlickrMosaicStep.Config, Dimension2D> displayArea) {
+        final StepEngineSettings stepEngineSettings = Configuration.getInstance()
+                .getConfigTyped("stepEngine", StepEngineSettings.class);
+
+        return Optional.ofNullable(stepEngineSettings)
+                .map(StepEngineSettings::steps)
+                .orElse(List.of())
+                .stream()
+                .filter(sd -> FlickrMosaicStep.class.getName().equals(sd.getStepClassName()))
+                .map(sd -> displayArea.apply(sd.getConfig(FlickrMosaicStep.Config.class)))
+                .reduce((l, r) -> new Dimension2D(
+                        Math.max(l.getWidth(), r.getWidth()),
+                        Math.max(l.getHeight(), r.getHeight())));
+    }
+
     private static Instant date(final Date date) {
         return Objects.requireNonNull(date).toInstant();
     }
 
+    /**
+     * Tracks the downloads of the photos of a photoset submitted by a single
+     * run. The state of the photoset is recorded in the index once all of them
+     * have been indexed. If any of them failed the previously recorded state
+     * is kept, so that the next run loads the missing photos again.
+     */
+    private final class PhotosetLoad {
+
+        private final Photoset photoset;
+        private final PhotosetState state;
+        /**
+         * Starts with one for the loading of the pages of the photoset.
+         */
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private volatile boolean incomplete = false;
+
+        private PhotosetLoad(final Photoset photoset, final PhotosetState state) {
+            this.photoset = photoset;
+            this.state = state;
+        }
+
+        private void acquire() {
+            pending.incrementAndGet();
+        }
+
+        private void markIncomplete() {
+            incomplete = true;
+        }
+
+        private void release(final boolean succeeded) {
+            if (!succeeded) {
+                markIncomplete();
+            }
+
+            if (0 != pending.decrementAndGet()) {
+                return;
+            }
+
+            if (incomplete) {
+                LOG.info("Not all photos of photoset '{}' were loaded. They are loaded again with the next run.", photoset.getTitle());
+            } else {
+                photoIndex.putPhotosetState(photoset.getId(), state);
+                photoIndex.requestWrite();
+            }
+        }
+    }
+
     /**
      * Implementation of {@link DataProvider.Factory} as Service implementation
      * creating {@link FlickrPhotoDataProvider}.
@@ -146,10 +439,54 @@ public class FlickrPhotoDataProvider
      * <p>
      * Param {@code scheduleDuration} Fixed rate of / delay between consecutive
      * executions in seconds. Defaults to {@code 1800L}.
+     *
+     * <p>
+     * Param {@code encodedImageBudget} The number of bytes of encoded images kept
+     * off-heap. Defaults to {@code 256 MiB}.
+     *
+     * <p>
+     * Param {@code decodedImageBudget} The number of bytes of decoded images kept
+     * on-heap. Defaults to {@code 64 MiB}.
+     *
+     * <p>
+     * Param {@code downloadConcurrency} The number of photos downloaded at the
+     * same time. Defaults to {@code 4}.
+     *
+     * <p>
+     * Param {@code downloadQueueSize} The maximum number of photos waiting to
+     * be downloaded. Loading further photos of a photoset waits while the
+     * queue is full. Defaults to {@code 200}.
+     *
+     * <p>
+     * Param {@code indexFile} The file the index of the loaded photos is
+     * stored in. Defaults to {@code flickr-photos.index} in the user cache
+     * directory.
+     *
+     * <p>
+     * Param {@code exifEnrichment} Flag enabling the background loading of the
+     * EXIF data of the photos to determine their orientation and the camera
+     * they were taken with. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code exifRequestInterval} The pause between two requests of EXIF
+     * data in milliseconds. Defaults to {@code 1000L}.
+     *
+     * <p>
+     * Param {@code exifCacheFile} The file the information taken from the EXIF
+     * data is stored in. Defaults to {@code flickr-exif.cache} in the user
+     * cache directory.
      */
     public static record Config(
             Integer cacheSize,
             Set<String> photosetTitleFilters,
+            Long encodedImageBudget,
+            Long decodedImageBudget,
+            Integer downloadConcurrency,
+            Integer downloadQueueSize,
+            String indexFile,
+            Boolean exifEnrichment,
+            Long exifRequestInterval,
+            String exifCacheFile,
             // for ScheduledConfig
             ScheduleType scheduleType,
             Long initialDelay,
@@ -161,6 +498,27 @@ public class FlickrPhotoDataProvider
                 throw new IllegalArgumentException("property 'cacheSize' must be larger than zero");
             }
             photosetTitleFilters = Nullable.nullable(photosetTitleFilters);
+            encodedImageBudget = Objects.requireNonNullElse(encodedImageBudget, 256L << 20);
+            if (encodedImageBudget <= 0) {
+                throw new IllegalArgumentException("property 'encodedImageBudget' must be larger than zero");
+            }
+            decodedImageBudget = Objects.requireNonNullElse(decodedImageBudget, 64L << 20);
+            if (decodedImageBudget <= 0) {
+                throw new IllegalArgumentException("property 'decodedImageBudget' must be larger than zero");
+            }
+            downloadConcurrency = Objects.requireNonNullElse(downloadConcurrency, 4);
+            if (downloadConcurrency <= 0) {
+                throw new IllegalArgumentException("property 'downloadConcurrency' must be larger than zero");
+            }
+            downloadQueueSize = Objects.requireNonNullElse(downloadQueueSize, 200);
+            if (downloadQueueSize <= 0) {
+                throw new IllegalArgumentException("property 'downloadQueueSize' must be larger than zero");
+            }
+            exifEnrichment = Objects.requireNonNullElse(exifEnrichment, Boolean.FALSE);
+            exifRequestInterval = Objects.requireNonNullElse(exifRequestInterval, 1000L);
+            if (exifRequestInterval < 0) {
+                throw new IllegalArgumentException("property 'exifRequestInterval' must not be negative");
+            }
             // for ScheduledConfig
             scheduleType = Objects.requireNonNullElse(scheduleType, ScheduleType.FIXED_RATE);
             initialDelay = Objects.requireNonNullElse(initialDelay, 5L);
@@ -172,6 +530,25 @@ public class FlickrPhotoDataProvider
             return Set.copyOf(photosetTitleFilters);
         }
 
+        /**
+         * {@return the file the index of the loaded photos is stored in}
+         */
+        public Path indexPath() {
+            return null == indexFile
+                    ? PersistentFile.cacheDirectory().resolve("flickr-photos.index")
+                    : Path.of(indexFile);
+        }
+
+        /**
+         * {@return the file the information taken from the EXIF data is stored
+         * in}
+         */
+        public Path exifCachePath() {
+            return null == exifCacheFile
+                    ? PersistentFile.cacheDirectory().resolve("flickr-exif.cache")
+                    : Path.of(exifCacheFile);
+        }
+
         public boolean acceptsTitle(final String photosetTitle) {
             return photosetTitleFilters.isEmpty()
                     || photosetTitleFilters.stream().anyMatch(photosetTitle::startsWith);
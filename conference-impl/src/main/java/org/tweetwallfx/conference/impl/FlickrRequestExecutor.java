@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import com.flickr4java.flickr.FlickrException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes requests against the Flickr API on virtual threads.
+ *
+ * <p>
+ * The number of concurrent requests as well as the rate at which requests are
+ * started are bounded as configured in {@link FlickrSettings}. Requests failed
+ * due to a transient failure are retried with exponential backoff. These are
+ * I/O errors, HTTP server errors and Flickr reporting its service to be
+ * unavailable. Other failures like invalid parameters or missing permissions
+ * fail right away.
+ */
+final class FlickrRequestExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlickrRequestExecutor.class);
+    /**
+     * The Flickr error code for "Service currently unavailable", which is also
+     * used by flickr4java for unsuccessful HTTP responses.
+     */
+    private static final String SERVICE_UNAVAILABLE = "105";
+    private static final Pattern HTTP_STATUS = Pattern.compile("with status (\\d{3})$");
+    private static final int TOO_MANY_REQUESTS = 429;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("flickr-request-", 0).factory());
+    private final Semaphore concurrentRequests;
+    private final long requestIntervalNanos;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private long nextRequestAt = System.nanoTime();
+
+    FlickrRequestExecutor(final FlickrSettings settings) {
+        this.concurrentRequests = new Semaphore(settings.maxConcurrentRequests(), true);
+        this.requestIntervalNanos = (long) (Duration.ofSeconds(1).toNanos() / settings.maxRequestsPerSecond());
+        this.maxRetries = settings.maxRetries();
+        this.retryBackoff = Duration.ofMillis(settings.retryBackoffMillis());
+    }
+
+    /**
+     * Executes the requests asynchronously. The results are provided by the
+     * returned stream in the order the requests complete.
+     *
+     * @param <T> the type of the results
+     * @param requests the requests mapped by their description used for
+     * logging
+     *
+     * @return the stream of results
+     *
+     * @throws CompletionException on consuming the result of a request that
+     * still failed after all retries
+     */
+    <T> Stream<T> executeAll(final Map<String, FlickrRequest<T>> requests) {
+        final BlockingQueue<CompletableFuture<T>> completed = new LinkedBlockingQueue<>();
+        requests.forEach((description, request) -> executor.execute(
+                () -> completed.add(complete(description, request))));
+
+        return Stream.generate(() -> take(completed))
+                .limit(requests.size())
+                .map(CompletableFuture::join);
+    }
+
+    private <T> CompletableFuture<T> complete(final String description, final FlickrRequest<T> request) {
+        try {
+            return CompletableFuture.completedFuture(execute(description, request));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> T take(final BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Executes the request on the calling thread.
+     *
+     * @param <T> the type of the result
+     * @param description the description of the request used for logging
+     * @param request the request
+     *
+     * @return the result of the request
+     *
+     * @throws CompletionException if the request failed permanently, still
+     * failed after all retries or the calling thread was interrupted
+     */
+    <T> T execute(final String description, final FlickrRequest<T> request) {
+        Objects.requireNonNull(request, "request must not be null!");
+
+        for (int attempt = 0;; attempt++) {
+            try {
+                return executeOnce(request);
+            } catch (final FlickrException | RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw new CompletionException("Request '" + description + "' failed", e);
+                }
+
+                if (attempt >= maxRetries) {
+                    throw new CompletionException("Request '" + description + "' failed after " + (attempt + 1) + " attempts", e);
+                }
+
+                final Duration backoff = retryBackoff.multipliedBy(1L << attempt)
+                        .plusMillis(ThreadLocalRandom.current().nextLong(retryBackoff.toMillis() / 2 + 1));
+                LOG.warn("Request '{}' failed (attempt {} of {}). Retrying in {}", description, attempt + 1, maxRetries + 1, backoff, e);
+                sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * Checks if the given failure of a request is transient, i.e. if the
+     * request may succeed when it is retried.
+     *
+     * @param failure the failure of the request
+     *
+     * @return {@code true} if the failure is transient
+     */
+    static boolean isTransient(final Exception failure) {
+        if (failure instanceof FlickrException flickrException) {
+            return isTransient(flickrException);
+        }
+
+        // flickr4java wraps I/O errors into a FlickrRuntimeException
+        for (Throwable cause = failure; null != cause; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isTransient(final FlickrException failure) {
+        if (!SERVICE_UNAVAILABLE.equals(failure.getErrorCode())) {
+            return false;
+        }
+
+        // e.g. "Received 'Bad Gateway' error from Flickr with status 502"
+        final Matcher matcher = HTTP_STATUS.matcher(String.valueOf(failure.getErrorMessage()));
+
+        if (!matcher.find()) {
+            // reported by Flickr itself
+            return true;
+        }
+
+        final int status = Integer.parseInt(matcher.group(1));
+        return status >= 500 || TOO_MANY_REQUESTS == status;
+    }
+
+    private <T> T executeOnce(final FlickrRequest<T> request) throws FlickrException {
+        try {
+            concurrentRequests.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+
+        try {
+            sleep(reserveRequestSlot());
+            return request.execute();
+        } finally {
+            concurrentRequests.release();
+        }
+    }
+
+    private synchronized Duration reserveRequestSlot() {
+        final long now = System.nanoTime();
+        final long requestAt = Math.max(now, nextRequestAt);
+        nextRequestAt = requestAt + requestIntervalNanos;
+        return Duration.ofNanos(requestAt - now);
+    }
+
+    private static void sleep(final Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(duration);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * A request against the Flickr API.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    interface FlickrRequest<T> {
+
+        /**
+         * Executes the request.
+         *
+         * @return the result of the request
+         *
+         * @throws FlickrException if the request failed
+         */
+        T execute() throws FlickrException;
+    }
+}
@@ -27,33 +27,45 @@ import com.flickr4java.flickr.Flickr;
 import com.flickr4java.flickr.FlickrException;
 import com.flickr4java.flickr.REST;
 import com.flickr4java.flickr.photos.Exif;
-import com.flickr4java.flickr.photos.Extras;
 import com.flickr4java.flickr.photos.Photo;
 import com.flickr4java.flickr.photos.PhotosInterface;
 import com.flickr4java.flickr.photosets.Photoset;
 import com.flickr4java.flickr.photosets.PhotosetsInterface;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.conference.impl.FlickrRequestExecutor.FlickrRequest;
 import org.tweetwallfx.config.Configuration;
-import org.tweetwallfx.util.ExpiringValue;
 
-public class FlickrService {
+/**
+ * Access to the photosets and photos of the configured Flickr account.
+ *
+ * <p>
+ * A single instance is shared by all users, so that they use the same Flickr
+ * client and photoset listing.
+ */
+public final class FlickrService {
 
     private static final int TOTAL_PHOTOS_PER_PAGE = 100;
     private static final Logger LOG = LoggerFactory.getLogger(FlickrService.class);
     private static final FlickrSettings FLICKR_SETTINGS = Configuration.getInstance()
             .getConfigTyped(FlickrSettings.CONFIG_KEY, FlickrSettings.class);
+    /**
+     * Shared among all instances as the limits apply per API key.
+     */
+    private static final FlickrRequestExecutor REQUESTS = new FlickrRequestExecutor(FLICKR_SETTINGS);
     private final PhotosInterface photosInterface;
     private final PhotosetsInterface photosetsInterface;
-    private final ExpiringValue<List<Photoset>> allPhotosets
-            = new ExpiringValue<>(this::loadAllPhotosets, Duration.ofSeconds(60));
+    private final PhotosetListing photosetListing = new PhotosetListing(FLICKR_SETTINGS.photosetListingPath());
 
-    public FlickrService() {
+    private FlickrService() {
         final Flickr flickr = new Flickr(
                 FLICKR_SETTINGS.apiKey(),
                 FLICKR_SETTINGS.apiSecret(),
@@ -63,52 +75,117 @@ public class FlickrService {
     }
 
     /**
-     * Get all albums from the Flickr account.
+     * Gets the shared instance.
+     *
+     * @return the shared instance
+     */
+    public static FlickrService getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Get all albums from the Flickr account. The albums are served from the
+     * cached listing unless it is older than the configured maximum age.
      *
      * @return list of albums
      */
-    public List<Photoset> getAllPhotosets() {
-        return allPhotosets.getValue();
+    public synchronized List<Photoset> getAllPhotosets() {
+        return photosetListing.current(Duration.ofSeconds(FLICKR_SETTINGS.photosetListingMaxAge()))
+                .orElseGet(this::loadAllPhotosets);
     }
 
     private List<Photoset> loadAllPhotosets() {
         LOG.debug("Request to get all Flickr albums");
 
         try {
-            return List.copyOf(photosetsInterface.getList(FLICKR_SETTINGS.userId()).getPhotosets());
-        } catch (FlickrException e) {
-            throw new RuntimeException("Something went wrong while retrieving the photosets", e);
+            return photosetListing.update(List.copyOf(REQUESTS.execute(
+                    "photosets of " + FLICKR_SETTINGS.userId(),
+                    () -> photosetsInterface.getList(FLICKR_SETTINGS.userId()).getPhotosets())));
+        } catch (final CompletionException e) {
+            final List<Photoset> stale = photosetListing.stale();
+
+            if (stale.isEmpty()) {
+                throw e;
+            }
+
+            LOG.warn("Failed to list Flickr albums. Using the previous listing of {} albums", stale.size(), e);
+            return stale;
         }
     }
 
     /**
      * Get all photos for a specific photoset.
      *
+     * <p>
+     * The pages of the photoset are requested concurrently and each page is
+     * provided by the returned stream as soon as it has been loaded. Thus the
+     * order of the pages is not retained.
+     *
      * @param photoset the album
      *
-     * @return the list of loaded Photo instances
+     * @return the stream of loaded pages of Photo instances
      */
-    public List<Photo> loadAllPhotos(final Photoset photoset) {
+    public Stream<List<Photo>> loadAllPhotos(final Photoset photoset) {
         LOG.debug("Request to get [{}] Flickr photos for photoset '{}'", photoset.getPhotoCount(), photoset.getTitle());
-        final int totalItems = photoset.getPhotoCount();
-        final int totalPages = totalItems / TOTAL_PHOTOS_PER_PAGE;
-
-        return IntStream.rangeClosed(1, totalPages)
-                .parallel()
-                .mapToObj(page -> {
-                    try {
-                        return photosetsInterface.getPhotos(
-                                photoset.getId(),
-                                Extras.ALL_EXTRAS,
-                                Flickr.PRIVACY_LEVEL_NO_FILTER,
-                                TOTAL_PHOTOS_PER_PAGE,
-                                page);
-                    } catch (FlickrException fe) {
-                        throw new RuntimeException("Failed loding page " + page + " of photoset " + photoset.getId(), fe);
-                    }
-                })
-                .flatMap(List::stream)
-                .toList();
+        return loadPhotos(photoset, 0);
+    }
+
+    /**
+     * Get the photos added to a specific photoset since it contained the given
+     * number of photos. As Flickr appends photos added to a photoset at its
+     * end only the pages containing these photos are loaded.
+     *
+     * <p>
+     * The last of the known photos is loaded as well. Should it not be a known
+     * photo or should any of the other photos be known, the photos have not
+     * been appended, e.g. as the photoset is sorted by date taken or photos
+     * have been removed as well, and the photoset needs to be loaded
+     * completely.
+     *
+     * <p>
+     * The pages are provided in the same way as by
+     * {@link #loadAllPhotos(Photoset)}.
+     *
+     * @param photoset the album
+     * @param knownPhotoCount the number of photos the photoset contained when
+     * it was loaded before, at least one
+     *
+     * @return the stream of loaded pages of Photo instances
+     */
+    public Stream<List<Photo>> loadPhotosAddedSince(final Photoset photoset, final int knownPhotoCount) {
+        if (knownPhotoCount < 1) {
+            throw new IllegalArgumentException("knownPhotoCount must be at least 1!");
+        }
+
+        LOG.debug("Request to get [{}] Flickr photos added to photoset '{}'",
+                photoset.getPhotoCount() - knownPhotoCount, photoset.getTitle());
+        return loadPhotos(photoset, knownPhotoCount - 1);
+    }
+
+    private Stream<List<Photo>> loadPhotos(final Photoset photoset, final int skippedPhotos) {
+        final int totalPages = Math.ceilDiv(photoset.getPhotoCount(), TOTAL_PHOTOS_PER_PAGE);
+        final int firstPage = skippedPhotos / TOTAL_PHOTOS_PER_PAGE + 1;
+
+        final Map<String, FlickrRequest<List<Photo>>> pages = new LinkedHashMap<>();
+        for (int page = firstPage; page <= totalPages; page++) {
+            final int pageNumber = page;
+            // photos of the first page already known
+            final int skippedPagePhotos = page == firstPage ? skippedPhotos % TOTAL_PHOTOS_PER_PAGE : 0;
+            pages.put("page " + page + " of photoset " + photoset.getId(),
+                    () -> loadPage(photoset, pageNumber, skippedPagePhotos));
+        }
+
+        return REQUESTS.executeAll(pages);
+    }
+
+    private List<Photo> loadPage(final Photoset photoset, final int page, final int skippedPhotos) throws FlickrException {
+        final List<Photo> photos = photosetsInterface.getPhotos(
+                photoset.getId(),
+                FLICKR_SETTINGS.extras(),
+                Flickr.PRIVACY_LEVEL_NO_FILTER,
+                TOTAL_PHOTOS_PER_PAGE,
+                page);
+        return List.copyOf(photos.subList(Math.min(skippedPhotos, photos.size()), photos.size()));
     }
 
     /**
@@ -119,10 +196,24 @@ public class FlickrService {
      * @return the loaded EXIF data
      */
     public List<Exif> getExif(final Photo photo) {
-        try {
-            return List.copyOf(photosInterface.getExif(photo.getId(), null));
-        } catch (FlickrException e) {
-            throw new RuntimeException("Something went wrong while retrieving the exif", e);
-        }
+        return getExif(photo.getId());
+    }
+
+    /**
+     * Gets all EXIF informartion for the photo with the given ID.
+     *
+     * @param photoId the ID of the photo
+     *
+     * @return the loaded EXIF data
+     */
+    public List<Exif> getExif(final String photoId) {
+        return List.copyOf(REQUESTS.execute(
+                "exif of photo " + photoId,
+                () -> photosInterface.getExif(photoId, null)));
+    }
+
+    private static final class InstanceHolder {
+
+        private static final FlickrService INSTANCE = new FlickrService();
     }
 }
@@ -23,28 +23,126 @@
  */
 package org.tweetwallfx.conference.impl;
 
+import com.flickr4java.flickr.photos.Extras;
+
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Set;
 
 import org.tweetwallfx.config.ConfigurationConverter;
 
 /**
  * POJO for reading Settings Google APIs.
+ *
+ * <p>
+ * Param {@code maxConcurrentRequests} The maximum number of requests executed
+ * against the Flickr API at the same time. Defaults to {@code 4}.
+ *
+ * <p>
+ * Param {@code maxRequestsPerSecond} The maximum number of requests started per
+ * second. Defaults to {@code 2.0}.
+ *
+ * <p>
+ * Param {@code maxRetries} The number of times a failed request is retried.
+ * Defaults to {@code 3}.
+ *
+ * <p>
+ * Param {@code retryBackoffMillis} The delay before the first retry in
+ * milliseconds. It doubles with every further retry. Defaults to {@code 500L}.
+ *
+ * <p>
+ * Param {@code extras} The extra information requested for every photo when
+ * loading the photos of a photoset (see {@link Extras}). Defaults to
+ * {@link #DEFAULT_EXTRAS}.
+ *
+ * <p>
+ * Param {@code photosetListingMaxAge} The age in seconds up to which the
+ * listing of the photosets is served from its cache. Defaults to {@code 60L}.
+ *
+ * <p>
+ * Param {@code photosetListingFile} The file the listing of the photosets is
+ * cached in. Defaults to {@code flickr-photosets.listing} in the user cache
+ * directory.
  */
 public record FlickrSettings(
         String apiKey,
         String apiSecret,
-        String userId) {
+        String userId,
+        Integer maxConcurrentRequests,
+        Double maxRequestsPerSecond,
+        Integer maxRetries,
+        Long retryBackoffMillis,
+        Set<String> extras,
+        Long photosetListingMaxAge,
+        String photosetListingFile) {
 
     /**
      * Configuration key under which the data for this settings object is stored
      * in the configuration data map.
      */
     public static final String CONFIG_KEY = "flickr";
+    /**
+     * Extra for the URL of the 800 pixel size, not defined in {@link Extras}.
+     */
+    private static final String URL_C = "url_c";
+    /**
+     * Extra for the URL of the 640 pixel size, not defined in {@link Extras}.
+     */
+    private static final String URL_Z = "url_z";
+    /**
+     * Extra for the URL of the 320 pixel size, not defined in {@link Extras}.
+     */
+    private static final String URL_N = "url_n";
+    /**
+     * The extra information required by the wall: the dates of a photo as
+     * well as the URLs of its sizes from small to large, so that each display
+     * area gets the smallest size covering it. The square sizes are cropped
+     * and thus not requested.
+     */
+    public static final Set<String> DEFAULT_EXTRAS = Set.of(
+            Extras.DATE_UPLOAD,
+            Extras.DATE_TAKEN,
+            Extras.URL_L,
+            URL_C,
+            URL_Z,
+            URL_N,
+            Extras.URL_M,
+            Extras.URL_S);
 
     public FlickrSettings {
         apiKey = Objects.requireNonNullElse(apiKey, "property 'apiKey' must be non-empty");
         apiSecret = Objects.requireNonNullElse(apiSecret, "property 'apiSecret' must be non-empty");
         userId = Objects.requireNonNullElse(userId, "property 'userId' must be non-empty");
+        maxConcurrentRequests = Objects.requireNonNullElse(maxConcurrentRequests, 4);
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("property 'maxConcurrentRequests' must be larger than zero");
+        }
+        maxRequestsPerSecond = Objects.requireNonNullElse(maxRequestsPerSecond, 2.0);
+        if (maxRequestsPerSecond <= 0) {
+            throw new IllegalArgumentException("property 'maxRequestsPerSecond' must be larger than zero");
+        }
+        maxRetries = Objects.requireNonNullElse(maxRetries, 3);
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("property 'maxRetries' must not be negative");
+        }
+        retryBackoffMillis = Objects.requireNonNullElse(retryBackoffMillis, 500L);
+        if (retryBackoffMillis < 0) {
+            throw new IllegalArgumentException("property 'retryBackoffMillis' must not be negative");
+        }
+        extras = Set.copyOf(Objects.requireNonNullElse(extras, DEFAULT_EXTRAS));
+        photosetListingMaxAge = Objects.requireNonNullElse(photosetListingMaxAge, 60L);
+        if (photosetListingMaxAge < 0) {
+            throw new IllegalArgumentException("property 'photosetListingMaxAge' must not be negative");
+        }
+    }
+
+    /**
+     * {@return the file the listing of the photosets is cached in}
+     */
+    public Path photosetListingPath() {
+        return null == photosetListingFile
+                ? PersistentFile.cacheDirectory().resolve("flickr-photosets.listing")
+                : Path.of(photosetListingFile);
     }
 
     /**
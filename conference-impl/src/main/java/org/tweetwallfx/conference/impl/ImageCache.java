@@ -0,0 +1,300 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.scene.image.Image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.cache.URLContentCacheBase;
+import org.tweetwallfx.stepengine.dataproviders.ImageStorage;
+
+/**
+ * Memory bounded cache of the images provided by an
+ * {@link org.tweetwallfx.stepengine.dataproviders.ImageStorageDataProvider}.
+ *
+ * <p>
+ * The encoded images are kept off-heap while only a bounded number of decoded
+ * images is kept on-heap. Both are evicted in least recently used order once
+ * their memory budget is exceeded. Evicted encoded images are reloaded from
+ * the {@link URLContentCacheBase}, ideally by {@link #preload(Collection)}
+ * before they are shown.
+ */
+final class ImageCache {
+
+    /**
+     * Key of the additional info of an {@link ImageStorage} containing the URL
+     * of its image.
+     */
+    static final String IMAGE_URL = "imageUrl";
+    /**
+     * Key of the additional info of an {@link ImageStorage} containing the URL
+     * of its image in the size used for highlighting it. Falls back to
+     * {@link #IMAGE_URL} if missing.
+     */
+    static final String HIGHLIGHT_IMAGE_URL = "highlightImageUrl";
+    private static final Logger LOG = LoggerFactory.getLogger(ImageCache.class);
+    private final Map<String, MemorySegment> encodedImages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<DecodedImageKey, Image> decodedImages = new LinkedHashMap<>(16, 0.75f, true);
+    private final long encodedImageBudget;
+    private final long decodedImageBudget;
+    private long encodedImageBytes = 0;
+    private long decodedImageBytes = 0;
+
+    ImageCache(final long encodedImageBudget, final long decodedImageBudget) {
+        this.encodedImageBudget = encodedImageBudget;
+        this.decodedImageBudget = decodedImageBudget;
+    }
+
+    /**
+     * Gets the image of the given storage decoded at the requested size. A
+     * requested size of {@code 0} decodes the image at its full size.
+     *
+     * @param imageStorage the storage of the image
+     * @param requestedWidth the width of the decoded image
+     * @param requestedHeight the height of the decoded image
+     *
+     * @return the decoded image
+     */
+    Image getImage(final ImageStorage imageStorage, final double requestedWidth, final double requestedHeight) {
+        return Optional.ofNullable(imageStorage.getAdditionalInfo().get(IMAGE_URL))
+                .map(String.class::cast)
+                .map(url -> getImage(url, requestedWidth, requestedHeight))
+                // image stored without its URL
+                .orElseGet(imageStorage::getImage);
+    }
+
+    /**
+     * Gets the image of the given storage in the size used for highlighting
+     * it, decoded at its full size.
+     *
+     * @param imageStorage the storage of the image
+     *
+     * @return the decoded image
+     */
+    Image getHighlightImage(final ImageStorage imageStorage) {
+        return highlightImageUrl(imageStorage)
+                .map(url -> getImage(url, 0, 0))
+                // image stored without its URL
+                .orElseGet(imageStorage::getImage);
+    }
+
+    /**
+     * Loads the encoded images of the given storages that are not kept
+     * off-heap in the background, so that showing them does not block the
+     * JavaFX application thread on the {@link URLContentCacheBase}.
+     *
+     * @param imageStorages the storages of the images about to be shown
+     *
+     * @return the future completed once the images are loaded
+     */
+    CompletableFuture<Void> preload(final Collection<ImageStorage> imageStorages) {
+        return preloadUrls(imageStorages.stream()
+                .map(imageStorage -> imageStorage.getAdditionalInfo().get(IMAGE_URL))
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList());
+    }
+
+    /**
+     * Loads the encoded image of the given storage in the size used for
+     * highlighting it in the background, like {@link #preload(Collection)}.
+     *
+     * @param imageStorage the storage of the image about to be highlighted
+     *
+     * @return the future completed once the image is loaded
+     */
+    CompletableFuture<Void> preloadHighlight(final ImageStorage imageStorage) {
+        return preloadUrls(highlightImageUrl(imageStorage).stream().toList());
+    }
+
+    private CompletableFuture<Void> preloadUrls(final List<String> urls) {
+        return CompletableFuture.runAsync(
+                () -> urls.forEach(this::preload),
+                runnable -> Thread.ofVirtual().name("image-preload").start(runnable));
+    }
+
+    private static Optional<String> highlightImageUrl(final ImageStorage imageStorage) {
+        final Map<String, Object> additionalInfo = imageStorage.getAdditionalInfo();
+
+        return Optional.ofNullable(additionalInfo.get(HIGHLIGHT_IMAGE_URL))
+                .or(() -> Optional.ofNullable(additionalInfo.get(IMAGE_URL)))
+                .map(String.class::cast);
+    }
+
+    private void preload(final String url) {
+        try {
+            getEncoded(url);
+        } catch (final UncheckedIOException uioe) {
+            // retried when the image is shown
+            LOG.info("Failed to preload image from {}", url, uioe);
+        }
+    }
+
+    private Image getImage(final String url, final double requestedWidth, final double requestedHeight) {
+        final DecodedImageKey key = new DecodedImageKey(url, requestedWidth, requestedHeight);
+        final Image cached = getDecoded(key);
+
+        if (null != cached) {
+            return cached;
+        }
+
+        final Image image = new Image(new ByteBufferInputStream(getEncoded(url).asByteBuffer()), requestedWidth, requestedHeight, false, true);
+        if (!image.isError()) {
+            putDecoded(key, image);
+        }
+
+        return image;
+    }
+
+    private synchronized Image getDecoded(final DecodedImageKey key) {
+        return decodedImages.get(key);
+    }
+
+    private synchronized void putDecoded(final DecodedImageKey key, final Image image) {
+        final Image previous = decodedImages.put(key, image);
+        decodedImageBytes += bytes(image) - (null == previous ? 0 : bytes(previous));
+
+        final Iterator<Image> it = decodedImages.values().iterator();
+        while (decodedImageBytes > decodedImageBudget && it.hasNext()) {
+            decodedImageBytes -= bytes(it.next());
+            it.remove();
+        }
+    }
+
+    private MemorySegment getEncoded(final String url) {
+        synchronized (this) {
+            final MemorySegment segment = encodedImages.get(url);
+
+            if (null != segment) {
+                return segment;
+            }
+        }
+
+        return putEncoded(url, loadEncoded(url));
+    }
+
+    private synchronized MemorySegment putEncoded(final String url, final byte[] bytes) {
+        final MemorySegment cached = encodedImages.get(url);
+
+        if (null != cached) {
+            return cached;
+        } else if (bytes.length > encodedImageBudget) {
+            return MemorySegment.ofArray(bytes);
+        }
+
+        // freed by the garbage collector once evicted and no longer read, so an
+        // image evicted while it is decoded stays valid
+        final MemorySegment segment = Arena.ofAuto().allocate(bytes.length);
+        segment.copyFrom(MemorySegment.ofArray(bytes));
+        encodedImages.put(url, segment);
+        encodedImageBytes += bytes.length;
+
+        final Iterator<MemorySegment> it = encodedImages.values().iterator();
+        while (encodedImageBytes > encodedImageBudget && it.hasNext()) {
+            encodedImageBytes -= it.next().byteSize();
+            it.remove();
+        }
+        LOG.debug("Keeping {} encoded images with {} bytes off-heap", encodedImages.size(), encodedImageBytes);
+        return segment;
+    }
+
+    private static byte[] loadEncoded(final String url) {
+        try (InputStream in = URLContentCacheBase.getDefault().getCachedOrLoad(url).getInputStream()) {
+            return in.readAllBytes();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Failed to load image from " + url, ioe);
+        }
+    }
+
+    private static long bytes(final Image image) {
+        // decoded images are stored with 4 bytes per pixel
+        return 4L * (long) image.getWidth() * (long) image.getHeight();
+    }
+
+    /**
+     * Reads the encoded image directly from its off-heap memory.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? Byte.toUnsignedInt(buffer.get()) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (0 == len) {
+                return 0;
+            } else if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int count = (int) Math.clamp(n, 0L, buffer.remaining());
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static record DecodedImageKey(String url, double requestedWidth, double requestedHeight) {
+
+        DecodedImageKey {
+            Objects.requireNonNull(url, "url must not be null!");
+        }
+    }
+}
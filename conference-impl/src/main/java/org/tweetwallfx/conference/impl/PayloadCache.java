@@ -0,0 +1,604 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.conference.spi.util.RestCallHelper;
+
+/**
+ * Cache of the raw JSON payloads retrieved from the conference API.
+ *
+ * <p>
+ * Payloads are kept as the bytes received so they can be decoded by
+ * {@link ConferenceJsonDecoder} without building an intermediate object tree.
+ * Paged responses announcing further pages via a {@code Link} header with
+ * {@code rel="next"} are followed and kept page by page. Pages are
+ * revalidated using {@code If-None-Match} and {@code If-Modified-Since} so an
+ * unchanged page is answered by the server with {@code 304 Not Modified}
+ * instead of its full content.
+ *
+ * <p>
+ * Concurrent refreshes of the same URL share a single request.
+ *
+ * <p>
+ * A payload refreshed with unchanged content keeps the values memoized by
+ * {@link Payload#decodeList(Object, Function)} so callers only pay for the
+ * conversion once the content actually changed.
+ *
+ * <p>
+ * The cached payloads can be written to and restored from a
+ * {@link ConferenceSnapshot}.
+ */
+final class PayloadCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadCache.class);
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"?next\"?");
+    private final Client client;
+    private final Runnable modificationListener;
+    private final Map<String, Payload> payloads = new ConcurrentHashMap<>();
+    /**
+     * The refreshes in flight by their URL.
+     */
+    private final Map<String, CompletableFuture<Optional<Payload>>> refreshes = new ConcurrentHashMap<>();
+    private final AtomicLong contentVersion = new AtomicLong();
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    PayloadCache() {
+        this(() -> {
+        });
+    }
+
+    PayloadCache(final Runnable modificationListener) {
+        this(RestCallHelper.getClient(), modificationListener);
+    }
+
+    PayloadCache(final Client client, final Runnable modificationListener) {
+        this.client = Objects.requireNonNull(client, "client must not be null!");
+        this.modificationListener = Objects.requireNonNull(modificationListener, "modificationListener must not be null!");
+    }
+
+    /**
+     * Returns the version of the cached content. It changes every time a
+     * cached payload is replaced by one with different content.
+     *
+     * @return the content version
+     */
+    long contentVersion() {
+        return contentVersion.get();
+    }
+
+    /**
+     * Returns the number of times a payload with new content was stored in
+     * this cache, be it for an URL not cached before or as replacement of a
+     * payload with different content.
+     *
+     * @return the modification count
+     */
+    long modificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Returns the payload of the given URL from the cache without ever
+     * requesting it, e.g. as restored from a snapshot.
+     *
+     * @param url the URL of the payload
+     *
+     * @return the cached payload
+     */
+    Optional<Payload> peek(final String url) {
+        return Optional.ofNullable(payloads.get(url));
+    }
+
+    /**
+     * Returns the URLs of all cached payloads.
+     *
+     * @return the URLs
+     */
+    Set<String> urls() {
+        return Set.copyOf(payloads.keySet());
+    }
+
+    /**
+     * Removes the payloads of the URLs matching the given predicate from the
+     * cache.
+     *
+     * @param url the predicate of the URLs to remove
+     *
+     * @return the number of removed payloads
+     */
+    int evictIf(final Predicate<String> url) {
+        int evicted = 0;
+
+        for (final String cachedUrl : payloads.keySet()) {
+            if (url.test(cachedUrl) && null != payloads.remove(cachedUrl)) {
+                evicted++;
+            }
+        }
+
+        if (0 < evicted) {
+            modificationCount.incrementAndGet();
+            modificationListener.run();
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Returns the payload of the given URL from the cache unless it is older
+     * than {@code maxAge} in which case it is revalidated. Should the
+     * revalidation fail the previously cached payload is returned.
+     *
+     * <p>
+     * Payloads restored from a snapshot are returned right away regardless of
+     * their age and revalidated in the background instead.
+     *
+     * @param url the URL to retrieve the payload from
+     * @param maxAge the maximum age of a cached payload
+     *
+     * @return the payload
+     */
+    Optional<Payload> get(final String url, final Duration maxAge) {
+        final Payload cached = payloads.get(url);
+
+        if (null != cached && cached.fetchedAt().plus(maxAge).isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
+
+        if (null != cached && cached.restored) {
+            revalidateInBackground(url);
+            return Optional.of(cached);
+        }
+
+        return refresh(url);
+    }
+
+    /**
+     * Revalidates the payload of the given URL on the calling thread
+     * regardless of its age. Should the revalidation fail the previously
+     * cached payload is returned. A refresh of the same URL already in flight
+     * is awaited instead of requesting the payload once more.
+     *
+     * @param url the URL to retrieve the payload from
+     *
+     * @return the payload
+     */
+    Optional<Payload> refresh(final String url) {
+        final CompletableFuture<Optional<Payload>> refreshing = new CompletableFuture<>();
+        final CompletableFuture<Optional<Payload>> inFlight = refreshes.putIfAbsent(url, refreshing);
+
+        return null == inFlight
+                ? refresh(url, refreshing)
+                : inFlight.join();
+    }
+
+    private Optional<Payload> refresh(final String url, final CompletableFuture<Optional<Payload>> refreshing) {
+        try {
+            final Optional<Payload> refreshed = refreshUncoordinated(url);
+            refreshing.complete(refreshed);
+            return refreshed;
+        } catch (final RuntimeException e) {
+            refreshing.completeExceptionally(e);
+            throw e;
+        } finally {
+            refreshes.remove(url, refreshing);
+        }
+    }
+
+    private Optional<Payload> refreshUncoordinated(final String url) {
+        final Payload cached = payloads.get(url);
+        final Optional<Payload> fetched = fetch(url, cached);
+        fetched.ifPresent(payload -> store(url, cached, payload));
+
+        if (fetched.isEmpty() && null != cached) {
+            LOG.warn("Using cached payload of '{}' retrieved at {}", url, cached.fetchedAt());
+            return Optional.of(cached);
+        }
+
+        return fetched;
+    }
+
+    /**
+     * Returns the payload of the given URL from the cache after revalidating
+     * it with the server. Pages the server reports as not modified are not
+     * transferred again.
+     *
+     * @param url the URL to retrieve the payload from
+     *
+     * @return the payload
+     */
+    Optional<Payload> revalidate(final String url) {
+        return get(url, Duration.ZERO);
+    }
+
+    /**
+     * Retrieves the payload of the given URL bypassing the cache.
+     *
+     * @param url the URL to retrieve the payload from
+     *
+     * @return the payload or an empty Optional if retrieving it failed
+     */
+    Optional<Payload> fetch(final String url) {
+        return fetch(url, null);
+    }
+
+    private void revalidateInBackground(final String url) {
+        final CompletableFuture<Optional<Payload>> refreshing = new CompletableFuture<>();
+
+        if (null == refreshes.putIfAbsent(url, refreshing)) {
+            Thread.ofVirtual().name("payload-revalidation").start(() -> refresh(url, refreshing));
+        }
+    }
+
+    private void store(final String url, final Payload cached, final Payload payload) {
+        payloads.put(url, payload);
+
+        if (null == cached || payload.decoded != cached.decoded) {
+            modificationCount.incrementAndGet();
+            modificationListener.run();
+        }
+    }
+
+    private Optional<Payload> fetch(final String url, final Payload cached) {
+        final Map<String, Page> knownPages = null == cached
+                ? Map.of()
+                : cached.pagesByUrl();
+        final List<Page> pages = new ArrayList<>();
+        String pageUrl = url;
+
+        while (null != pageUrl) {
+            final Page knownPage = knownPages.get(pageUrl);
+            final Optional<Page> page = fetchPage(pageUrl, knownPage);
+
+            if (page.isEmpty()) {
+                return Optional.empty();
+            }
+
+            pages.add(page.get());
+            pageUrl = page.get().nextUrl;
+        }
+
+        final Payload fetched = new Payload(pages, Instant.now());
+
+        if (null == cached) {
+            return Optional.of(fetched);
+        } else if (cached.hasSameContent(fetched)) {
+            return Optional.of(cached.refreshedBy(fetched));
+        } else {
+            contentVersion.incrementAndGet();
+            return Optional.of(fetched);
+        }
+    }
+
+    private Optional<Page> fetchPage(final String pageUrl, final Page knownPage) {
+        LOG.debug("Retrieving payload from '{}'", pageUrl);
+        final Invocation.Builder request = client.target(pageUrl).request(MediaType.APPLICATION_JSON_TYPE);
+
+        if (null != knownPage) {
+            if (null != knownPage.entityTag) {
+                request.header(HttpHeaders.IF_NONE_MATCH, knownPage.entityTag);
+            }
+            if (null != knownPage.lastModified) {
+                request.header(HttpHeaders.IF_MODIFIED_SINCE, knownPage.lastModified);
+            }
+        }
+
+        try (Response response = request.get()) {
+            if (null != knownPage && Response.Status.NOT_MODIFIED.getStatusCode() == response.getStatus()) {
+                LOG.debug("Payload of '{}' not modified", pageUrl);
+                return Optional.of(knownPage);
+            }
+
+            if (Response.Status.Family.SUCCESSFUL != response.getStatusInfo().getFamily()) {
+                LOG.warn("Retrieving payload from '{}' failed with status {}", pageUrl, response.getStatus());
+                return Optional.empty();
+            }
+
+            return Optional.of(new Page(
+                    pageUrl,
+                    response.readEntity(byte[].class),
+                    response.getHeaderString(HttpHeaders.ETAG),
+                    response.getHeaderString(HttpHeaders.LAST_MODIFIED),
+                    nextPageUrl(pageUrl, response.getHeaderString(HttpHeaders.LINK))));
+        } catch (final RuntimeException e) {
+            LOG.warn("Retrieving payload from '{}' failed", pageUrl, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes all cached payloads to the given output.
+     *
+     * @param out the output to write to
+     *
+     * @throws IOException if writing fails
+     */
+    void writeTo(final DataOutputStream out) throws IOException {
+        final Map<String, Payload> snapshot = Map.copyOf(payloads);
+        out.writeInt(snapshot.size());
+
+        for (final Map.Entry<String, Payload> entry : snapshot.entrySet()) {
+            final Payload payload = entry.getValue();
+            PersistentFile.writeString(out, entry.getKey());
+            out.writeLong(payload.fetchedAt.toEpochMilli());
+            out.writeInt(payload.pages.size());
+
+            for (final Page page : payload.pages) {
+                PersistentFile.writeString(out, page.url);
+                PersistentFile.writeString(out, page.entityTag);
+                PersistentFile.writeString(out, page.lastModified);
+                PersistentFile.writeString(out, page.nextUrl);
+                out.writeInt(page.content.length);
+                out.write(page.content);
+            }
+        }
+    }
+
+    /**
+     * Restores the payloads written by {@link #writeTo(DataOutputStream)}
+     * from the given buffer. Payloads already cached are not replaced.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the number of restored payloads
+     *
+     * @throws IllegalArgumentException if the buffer is corrupt, in which
+     * case nothing is restored
+     */
+    int restoreFrom(final ByteBuffer buffer) {
+        return restore(readFrom(buffer));
+    }
+
+    /**
+     * Reads the payloads written by {@link #writeTo(DataOutputStream)} from
+     * the given buffer without restoring them yet.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the payloads by their URL
+     *
+     * @throws IllegalArgumentException if the buffer is corrupt
+     */
+    static Map<String, Payload> readFrom(final ByteBuffer buffer) {
+        final int payloadCount = PersistentFile.readCount(buffer);
+        final Map<String, Payload> restoredPayloads = HashMap.newHashMap(payloadCount);
+
+        for (int i = 0; i < payloadCount; i++) {
+            final String url = PersistentFile.readRequiredString(buffer);
+            final Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+            final int pageCount = PersistentFile.readCount(buffer);
+            final List<Page> pages = new ArrayList<>(pageCount);
+
+            for (int j = 0; j < pageCount; j++) {
+                final String pageUrl = PersistentFile.readRequiredString(buffer);
+                final String entityTag = PersistentFile.readString(buffer);
+                final String lastModified = PersistentFile.readString(buffer);
+                final String nextUrl = PersistentFile.readString(buffer);
+                final byte[] content = new byte[PersistentFile.readCount(buffer)];
+                buffer.get(content);
+                pages.add(new Page(pageUrl, content, entityTag, lastModified, nextUrl));
+            }
+
+            restoredPayloads.put(url, new Payload(List.copyOf(pages), fetchedAt, new AtomicReference<>(), true));
+        }
+
+        return restoredPayloads;
+    }
+
+    /**
+     * Restores the given payloads read by {@link #readFrom(ByteBuffer)}.
+     * Payloads already cached are not replaced.
+     *
+     * @param restoredPayloads the payloads by their URL
+     *
+     * @return the number of restored payloads
+     */
+    int restore(final Map<String, Payload> restoredPayloads) {
+        int restored = 0;
+
+        for (final Map.Entry<String, Payload> entry : restoredPayloads.entrySet()) {
+            if (null == payloads.putIfAbsent(entry.getKey(), entry.getValue())) {
+                restored++;
+            }
+        }
+
+        return restored;
+    }
+
+    private static String nextPageUrl(final String pageUrl, final String linkHeader) {
+        if (null == linkHeader) {
+            return null;
+        }
+
+        final Matcher matcher = NEXT_LINK.matcher(linkHeader);
+        return matcher.find()
+                ? URI.create(pageUrl).resolve(matcher.group(1)).toString()
+                : null;
+    }
+
+    /**
+     * A single page of a payload along with the validators needed to
+     * revalidate it.
+     */
+    private static final class Page {
+
+        private final String url;
+        private final byte[] content;
+        private final String entityTag;
+        private final String lastModified;
+        private final String nextUrl;
+
+        private Page(final String url, final byte[] content, final String entityTag, final String lastModified, final String nextUrl) {
+            this.url = url;
+            this.content = content;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.nextUrl = nextUrl;
+        }
+    }
+
+    /**
+     * The raw content retrieved from an URL consisting of one or more pages.
+     */
+    static final class Payload {
+
+        private final List<Page> pages;
+        private final Instant fetchedAt;
+        private final AtomicReference<Decoded> decoded;
+        private final boolean restored;
+
+        private Payload(final List<Page> pages, final Instant fetchedAt) {
+            this(List.copyOf(pages), fetchedAt, new AtomicReference<>(), false);
+        }
+
+        private Payload(final List<Page> pages, final Instant fetchedAt, final AtomicReference<Decoded> decoded, final boolean restored) {
+            this.pages = pages;
+            this.fetchedAt = Objects.requireNonNull(fetchedAt, "fetchedAt must not be null!");
+            this.decoded = decoded;
+            this.restored = restored;
+        }
+
+        private boolean hasSameContent(final Payload other) {
+            if (pages.size() != other.pages.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < pages.size(); i++) {
+                if (!Arrays.equals(pages.get(i).content, other.pages.get(i).content)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private Payload refreshedBy(final Payload refreshed) {
+            return new Payload(refreshed.pages, refreshed.fetchedAt, decoded, false);
+        }
+
+        private Map<String, Page> pagesByUrl() {
+            return pages.stream().collect(Collectors.toMap(page -> page.url, Function.identity(), (a, _) -> a));
+        }
+
+        /**
+         * {@return the point in time the payload was retrieved}
+         */
+        Instant fetchedAt() {
+            return fetchedAt;
+        }
+
+        /**
+         * Decodes the first page of this payload.
+         *
+         * @param <T> the decoded type
+         * @param decoder the decoder
+         *
+         * @return the decoded value
+         */
+        <T> T decode(final Function<InputStream, T> decoder) {
+            return decoder.apply(new ByteArrayInputStream(pages.getFirst().content));
+        }
+
+        /**
+         * Decodes all pages of this payload and concatenates their elements.
+         *
+         * @param <T> the element type
+         * @param decoder the decoder of a single page
+         *
+         * @return the decoded elements
+         */
+        <T> List<T> decodeList(final Function<InputStream, List<T>> decoder) {
+            if (1 == pages.size()) {
+                return decode(decoder);
+            }
+
+            return pages.stream()
+                    .map(page -> new ByteArrayInputStream(page.content))
+                    .map(decoder)
+                    .flatMap(List::stream)
+                    .toList();
+        }
+
+        /**
+         * Decodes all pages of this payload like
+         * {@link #decodeList(Function)} but reuses the elements decoded by a
+         * previous call with an equal {@code key}, including calls made on a
+         * previous payload of the same URL with identical content.
+         *
+         * @param <T> the element type
+         * @param key the additional input the decoded elements depend on
+         * @param decoder the decoder of a single page
+         *
+         * @return the decoded elements
+         */
+        @SuppressWarnings("unchecked")
+        <T> List<T> decodeList(final Object key, final Function<InputStream, List<T>> decoder) {
+            final Decoded current = decoded.get();
+
+            if (null != current && Objects.equals(current.key(), key)) {
+                return (List<T>) current.elements();
+            }
+
+            final List<T> elements = decodeList(decoder);
+            decoded.set(new Decoded(key, elements));
+            return elements;
+        }
+    }
+
+    private static record Decoded(Object key, List<?> elements) {
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file local state like the {@link ConferenceSnapshot} or the
+ * {@link PhotoIndex} is persisted in.
+ *
+ * <p>
+ * The file starts with a magic number and a format version, a file with a
+ * different header is ignored. It is read via a memory mapped file and written
+ * atomically by replacing the previous file. Writes requested via
+ * {@link #requestWrite()} are coalesced so a burst of changes results in a
+ * single write, and a write is skipped if the state to write is equal to the
+ * one written last.
+ *
+ * @param <T> the type of the state written, compared to the state written last
+ * in order to skip unnecessary writes
+ */
+final class PersistentFile<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentFile.class);
+    private static final Duration WRITE_DELAY = Duration.ofSeconds(30);
+    private final Path file;
+    private final int magic;
+    private final int formatVersion;
+    private final String description;
+    private final Supplier<T> state;
+    private final Writer<T> writer;
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private volatile T lastWritten;
+
+    /**
+     * Creates a persistent file.
+     *
+     * @param file the file the state is stored in
+     * @param magic the magic number identifying the kind of file
+     * @param formatVersion the version of the format the state is written in
+     * @param description the description of the file used for logging
+     * @param state supplies the current state to write
+     * @param writer writes the state following the header
+     */
+    PersistentFile(final Path file, final int magic, final int formatVersion, final String description,
+            final Supplier<T> state, final Writer<T> writer) {
+        this.file = Objects.requireNonNull(file, "file must not be null!");
+        this.magic = magic;
+        this.formatVersion = formatVersion;
+        this.description = Objects.requireNonNull(description, "description must not be null!");
+        this.state = Objects.requireNonNull(state, "state must not be null!");
+        this.writer = Objects.requireNonNull(writer, "writer must not be null!");
+    }
+
+    /**
+     * Reads the file if it exists and has the expected header. Failures are
+     * logged.
+     *
+     * @param <R> the type of the result of reading
+     * @param reader reads the content following the header, signalling a
+     * corrupt file by throwing an {@link IllegalArgumentException} or
+     * {@link BufferUnderflowException}
+     *
+     * @return the result of the reader or an empty Optional if the file does
+     * not exist or could not be read
+     */
+    <R> Optional<R> restore(final Function<ByteBuffer, R> reader) {
+        if (!Files.isRegularFile(file)) {
+            LOG.info("No {} found at '{}'", description, file);
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (magic != buffer.getInt() || formatVersion != buffer.getInt()) {
+                LOG.warn("Ignoring {} '{}' of unknown format", description, file);
+                return Optional.empty();
+            }
+
+            return Optional.of(reader.apply(buffer));
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOG.warn("Failed to restore {} from '{}'", description, file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Marks the current state as written, e.g. after it was restored from the
+     * file.
+     */
+    void markWritten() {
+        markWritten(state.get());
+    }
+
+    /**
+     * Marks the given state as written, e.g. as it was restored from the file.
+     *
+     * @param writtenState the state contained in the file
+     */
+    void markWritten(final T writtenState) {
+        lastWritten = writtenState;
+    }
+
+    /**
+     * Requests the state to be written. The write happens on a virtual thread
+     * after a short delay collecting further changes.
+     */
+    void requestWrite() {
+        if (writeScheduled.compareAndSet(false, true)) {
+            Thread.ofVirtual().name(file.getFileName() + "-write").start(() -> {
+                try {
+                    Thread.sleep(WRITE_DELAY);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    writeScheduled.set(false);
+                }
+
+                writeNow();
+            });
+        }
+    }
+
+    /**
+     * Writes the state on the calling thread unless nothing changed since the
+     * last write. Failures are logged.
+     */
+    void writeNow() {
+        final T current = state.get();
+
+        if (Objects.equals(current, lastWritten)) {
+            LOG.debug("The {} is up to date", description);
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            final Path temporaryFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                    out.writeInt(magic);
+                    out.writeInt(formatVersion);
+                    writer.write(out, current);
+                }
+
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+
+            lastWritten = current;
+            LOG.info("Wrote {} to '{}'", description, file);
+        } catch (final IOException e) {
+            LOG.warn("Failed to write {} to '{}'", description, file, e);
+        }
+    }
+
+    /**
+     * {@return the directory local state like snapshots is stored in by
+     * default} That is the {@code tweetwallfx} directory in the user cache
+     * directory.
+     */
+    static Path cacheDirectory() {
+        final String cacheHome = System.getenv("XDG_CACHE_HOME");
+        final Path cacheDirectory = null == cacheHome || cacheHome.isBlank()
+                ? Path.of(System.getProperty("user.home"), ".cache")
+                : Path.of(cacheHome);
+        return cacheDirectory.resolve("tweetwallfx");
+    }
+
+    /**
+     * Writes a nullable string as length prefixed UTF-8.
+     *
+     * @param out the output to write to
+     * @param value the string to write
+     *
+     * @throws IOException if writing fails
+     */
+    static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (null == value) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the string read
+     *
+     * @throws IllegalArgumentException if the length of the string exceeds
+     * the remaining bytes
+     */
+    static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[checkCount(buffer, length)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}
+     * that must not be {@code null}.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the string read
+     *
+     * @throws IllegalArgumentException if the string is missing or its length
+     * exceeds the remaining bytes
+     */
+    static String readRequiredString(final ByteBuffer buffer) {
+        final String value = readString(buffer);
+
+        if (null == value) {
+            throw new IllegalArgumentException("Missing string at position " + buffer.position());
+        }
+
+        return value;
+    }
+
+    /**
+     * Reads the number of elements or bytes following. As each of them takes
+     * at least one byte the count cannot exceed the remaining bytes.
+     *
+     * @param buffer the buffer to read from
+     *
+     * @return the count read
+     *
+     * @throws IllegalArgumentException if the count is negative or exceeds the
+     * remaining bytes
+     */
+    static int readCount(final ByteBuffer buffer) {
+        return checkCount(buffer, buffer.getInt());
+    }
+
+    private static int checkCount(final ByteBuffer buffer, final int count) {
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid count " + count + " with " + buffer.remaining() + " bytes remaining");
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the state of a persistent file.
+     *
+     * @param <T> the type of the state
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+
+        /**
+         * Writes the given state.
+         *
+         * @param out the output to write to
+         * @param state the state to write
+         *
+         * @throws IOException if writing fails
+         */
+        void write(DataOutputStream out, T state) throws IOException;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.tweetwallfx.conference.impl.PersistentFile.readString;
+import static org.tweetwallfx.conference.impl.PersistentFile.writeString;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of the Flickr photos loaded by
+ * {@link FlickrPhotoDataProvider} keyed by their photo ID, along with the
+ * state of the photosets they were loaded from.
+ *
+ * <p>
+ * The index allows to skip photos already loaded and to restore the loaded
+ * photos after a restart without requesting them from Flickr again. It is
+ * stored in a {@link PersistentFile}.
+ */
+final class PhotoIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PhotoIndex.class);
+    private static final int MAGIC = 0x54574650;
+    private static final int FORMAT_VERSION = 2;
+    private static final long NO_INSTANT = Long.MIN_VALUE;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, PhotosetState> photosetStates = new ConcurrentHashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final PersistentFile<Long> persistentFile;
+
+    /**
+     * Creates an index stored in the given file.
+     *
+     * @param file the file the index is stored in
+     */
+    PhotoIndex(final Path file) {
+        this.persistentFile = new PersistentFile<>(file, MAGIC, FORMAT_VERSION, "photo index",
+                modificationCount::get, (out, _) -> writeTo(out));
+    }
+
+    /**
+     * Checks if the photo with the given ID is known.
+     *
+     * @param photoId the ID of the photo
+     *
+     * @return {@code true} if the photo is known
+     */
+    boolean contains(final String photoId) {
+        return entries.containsKey(photoId);
+    }
+
+    /**
+     * Adds the entry of a loaded photo.
+     *
+     * @param entry the entry
+     */
+    void put(final Entry entry) {
+        if (!entry.equals(entries.put(entry.photoId(), entry))) {
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets all known photos.
+     *
+     * @return the entries of all known photos
+     */
+    Collection<Entry> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * Gets the state of the photoset with the given ID when its photos were
+     * last loaded.
+     *
+     * @param photosetId the ID of the photoset
+     *
+     * @return the state of the photoset or {@code null} if it was not loaded
+     * so far
+     */
+    PhotosetState photosetState(final String photosetId) {
+        return photosetStates.get(photosetId);
+    }
+
+    /**
+     * Records the state of the photoset with the given ID after all its
+     * photos were loaded and put into the index. Thus a photoset with a
+     * recorded state has all its photos indexed, also after a restart.
+     *
+     * @param photosetId the ID of the photoset
+     * @param state the state of the photoset
+     */
+    void putPhotosetState(final String photosetId, final PhotosetState state) {
+        if (!state.equals(photosetStates.put(photosetId, state))) {
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Restores the index from its file.
+     *
+     * @return the number of restored photos
+     */
+    int restore() {
+        return persistentFile.restore(this::restoreFrom)
+                .orElseGet(() -> {
+                    entries.clear();
+                    photosetStates.clear();
+                    return 0;
+                });
+    }
+
+    /**
+     * Requests the index to be written. The write happens on a virtual thread
+     * after a short delay collecting further changes.
+     */
+    void requestWrite() {
+        persistentFile.requestWrite();
+    }
+
+    /**
+     * Writes the index on the calling thread unless nothing changed since the
+     * last write. Failures are logged.
+     */
+    void writeNow() {
+        persistentFile.writeNow();
+    }
+
+    private int restoreFrom(final ByteBuffer buffer) {
+        final int photosetSize = buffer.getInt();
+        for (int i = 0; i < photosetSize; i++) {
+            final String photosetId = readString(buffer);
+            final int photoCount = buffer.getInt();
+            final String dateUpdate = readString(buffer);
+
+            if (null == photosetId) {
+                throw new IllegalArgumentException("Photoset state " + i + " is incomplete");
+            }
+
+            photosetStates.put(photosetId, new PhotosetState(photoCount, dateUpdate));
+        }
+
+        final int entrySize = buffer.getInt();
+        for (int i = 0; i < entrySize; i++) {
+            final String photoId = readString(buffer);
+            final String photosetId = readString(buffer);
+            final Instant dateAdded = readInstant(buffer);
+            final Instant datePosted = readInstant(buffer);
+            final Instant dateTaken = readInstant(buffer);
+            final String imageUrl = readString(buffer);
+            final String highlightImageUrl = readString(buffer);
+
+            if (null == photoId || null == imageUrl || null == highlightImageUrl) {
+                throw new IllegalArgumentException("Photo entry " + i + " is incomplete");
+            }
+
+            entries.put(photoId, new Entry(photoId, photosetId, dateAdded, datePosted, dateTaken, imageUrl, highlightImageUrl));
+        }
+
+        persistentFile.markWritten();
+        LOG.info("Restored {} photos of {} photosets", entries.size(), photosetStates.size());
+        return entries.size();
+    }
+
+    private void writeTo(final DataOutputStream out) throws IOException {
+        final Map<String, PhotosetState> currentPhotosetStates = Map.copyOf(photosetStates);
+        final Collection<Entry> currentEntries = entries();
+        out.writeInt(currentPhotosetStates.size());
+
+        for (final Map.Entry<String, PhotosetState> photosetState : currentPhotosetStates.entrySet()) {
+            writeString(out, photosetState.getKey());
+            out.writeInt(photosetState.getValue().photoCount());
+            writeString(out, photosetState.getValue().dateUpdate());
+        }
+
+        out.writeInt(currentEntries.size());
+
+        for (final Entry entry : currentEntries) {
+            writeString(out, entry.photoId());
+            writeString(out, entry.photosetId());
+            writeInstant(out, entry.dateAdded());
+            writeInstant(out, entry.datePosted());
+            writeInstant(out, entry.dateTaken());
+            writeString(out, entry.imageUrl());
+            writeString(out, entry.highlightImageUrl());
+        }
+    }
+
+    private static Instant readInstant(final ByteBuffer buffer) {
+        final long epochMilli = buffer.getLong();
+        return NO_INSTANT == epochMilli ? null : Instant.ofEpochMilli(epochMilli);
+    }
+
+    private static void writeInstant(final DataOutputStream out, final Instant instant) throws IOException {
+        out.writeLong(null == instant ? NO_INSTANT : instant.toEpochMilli());
+    }
+
+    /**
+     * The state of a photoset at the time its photos were loaded. Used to
+     * determine whether photos have been added since.
+     *
+     * @param photoCount the number of photos in the photoset
+     * @param dateUpdate the date the photoset was last updated
+     */
+    static record PhotosetState(int photoCount, String dateUpdate) {
+    }
+
+    /**
+     * A loaded photo.
+     *
+     * @param photoId the ID of the photo
+     * @param photosetId the ID of the photoset the photo was loaded from
+     * @param dateAdded the date the photo was added to the photoset
+     * @param datePosted the date the photo was uploaded
+     * @param dateTaken the date the photo was taken
+     * @param imageUrl the URL of the size of the photo chosen for the mosaic
+     * cells, which is also the key of its content in the URL content cache
+     * @param highlightImageUrl the URL of the size of the photo chosen for
+     * highlighting it, loaded only when it is highlighted
+     */
+    static record Entry(
+            String photoId,
+            String photosetId,
+            Instant dateAdded,
+            Instant datePosted,
+            Instant dateTaken,
+            String imageUrl,
+            String highlightImageUrl) {
+
+        Entry {
+            Objects.requireNonNull(photoId, "photoId must not be null!");
+            Objects.requireNonNull(imageUrl, "imageUrl must not be null!");
+            Objects.requireNonNull(highlightImageUrl, "highlightImageUrl must not be null!");
+        }
+
+        /**
+         * {@return the date the photo is stored with} That is the date it was
+         * taken or, if unknown, the date it was uploaded. {@code null} if
+         * neither is known.
+         */
+        Instant storageDate() {
+            return null != dateTaken ? dateTaken : datePosted;
+        }
+
+        /**
+         * Creates the additional info of the
+         * {@link org.tweetwallfx.stepengine.dataproviders.ImageStorage} of the
+         * photo.
+         *
+         * @return the additional info
+         */
+        Map<String, Object> additionalData() {
+            final Map<String, Object> additionalData = new TreeMap<>();
+            additionalData.put("photoId", photoId);
+            additionalData.put("photosetId", photosetId);
+            additionalData.put("dateAdded", Optional.ofNullable(dateAdded).map(Object::toString).orElse("N/A"));
+            additionalData.put("datePosted", Optional.ofNullable(datePosted).map(Object::toString).orElse("N/A"));
+            additionalData.put("dateTaken", Optional.ofNullable(dateTaken).map(Object::toString).orElse("N/A"));
+            additionalData.put(ImageCache.IMAGE_URL, imageUrl);
+            additionalData.put(ImageCache.HIGHLIGHT_IMAGE_URL, highlightImageUrl);
+//            additionalData.put(ImageStorage.KEY_CATEGORY, photoset.getTitle()); // for grouping pictures by day/album
+            return additionalData;
+        }
+    }
+}
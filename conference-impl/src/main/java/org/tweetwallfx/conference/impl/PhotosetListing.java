@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.tweetwallfx.conference.impl.PersistentFile.readString;
+import static org.tweetwallfx.conference.impl.PersistentFile.writeString;
+
+import com.flickr4java.flickr.photosets.Photoset;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the photosets listed by {@link FlickrService}.
+ *
+ * <p>
+ * A listing younger than the maximum age is served without requesting it from
+ * Flickr, which also applies to a listing restored after a restart. On update
+ * the photosets whose {@code date_update} and photo count did not change are
+ * retained, so that only changed photosets are replaced and written. The
+ * listing is stored in a {@link PersistentFile}.
+ */
+final class PhotosetListing {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PhotosetListing.class);
+    private static final int MAGIC = 0x54574653;
+    private static final int FORMAT_VERSION = 1;
+    private final PersistentFile<Instant> persistentFile;
+    private List<Photoset> photosets = List.of();
+    private Instant fetchedAt = Instant.MIN;
+
+    /**
+     * Creates a listing stored in the given file and restores it from there.
+     *
+     * @param file the file the listing is stored in
+     */
+    PhotosetListing(final Path file) {
+        // the listing only changes along with the time it was fetched at
+        this.persistentFile = new PersistentFile<>(file, MAGIC, FORMAT_VERSION, "photoset listing",
+                () -> fetchedAt, (out, _) -> writeTo(out));
+        persistentFile.restore(this::restoreFrom);
+    }
+
+    /**
+     * Gets the listed photosets if the listing is not older than the given
+     * maximum age.
+     *
+     * @param maxAge the maximum age of the listing
+     *
+     * @return the photosets or an empty Optional if the listing is too old
+     */
+    synchronized Optional<List<Photoset>> current(final Duration maxAge) {
+        return fetchedAt.isAfter(Instant.now().minus(maxAge))
+                ? Optional.of(photosets)
+                : Optional.empty();
+    }
+
+    /**
+     * Gets the listed photosets regardless of the age of the listing.
+     *
+     * @return the photosets, an empty List if nothing was listed so far
+     */
+    synchronized List<Photoset> stale() {
+        return photosets;
+    }
+
+    /**
+     * Updates the listing with freshly loaded photosets. Photosets unchanged
+     * since they were last listed are retained.
+     *
+     * @param loaded the loaded photosets
+     *
+     * @return the photosets of the updated listing
+     */
+    synchronized List<Photoset> update(final List<Photoset> loaded) {
+        final Map<String, Photoset> known = photosets.stream()
+                .collect(Collectors.toMap(Photoset::getId, Function.identity()));
+        final List<Photoset> updated = new ArrayList<>(loaded.size());
+        int changed = 0;
+
+        for (final Photoset photoset : loaded) {
+            final Photoset previous = known.get(photoset.getId());
+
+            if (null != previous
+                    && previous.getPhotoCount() == photoset.getPhotoCount()
+                    && Objects.equals(previous.getDateUpdate(), photoset.getDateUpdate())) {
+                updated.add(previous);
+            } else {
+                updated.add(photoset);
+                changed++;
+            }
+        }
+
+        final boolean removed = known.size() + changed > loaded.size();
+        photosets = List.copyOf(updated);
+        fetchedAt = Instant.now();
+        LOG.info("Listed {} photosets, {} of them new or updated", photosets.size(), changed);
+
+        if (changed > 0 || removed) {
+            persistentFile.writeNow();
+        }
+
+        return photosets;
+    }
+
+    private synchronized int restoreFrom(final ByteBuffer buffer) {
+        final Instant restoredFetchedAt = Instant.ofEpochMilli(buffer.getLong());
+        final int size = buffer.getInt();
+        final List<Photoset> restored = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final Photoset photoset = new Photoset();
+            photoset.setId(readString(buffer));
+            photoset.setTitle(readString(buffer));
+            photoset.setPhotoCount(buffer.getInt());
+            photoset.setDateCreate(readString(buffer));
+            photoset.setDateUpdate(readString(buffer));
+            restored.add(photoset);
+        }
+
+        photosets = List.copyOf(restored);
+        fetchedAt = restoredFetchedAt;
+        persistentFile.markWritten();
+        LOG.info("Restored {} photosets listed at {}", photosets.size(), fetchedAt);
+        return photosets.size();
+    }
+
+    private void writeTo(final DataOutputStream out) throws IOException {
+        out.writeLong(fetchedAt.toEpochMilli());
+        out.writeInt(photosets.size());
+
+        for (final Photoset photoset : photosets) {
+            writeString(out, photoset.getId());
+            writeString(out, photoset.getTitle());
+            out.writeInt(photoset.getPhotoCount());
+            writeString(out, photoset.getDateCreate());
+            writeString(out, photoset.getDateUpdate());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Value loaded via a {@link Supplier} that is refreshed ahead of its use.
+ *
+ * <p>
+ * In contrast to {@link org.tweetwallfx.util.ExpiringValue} callers of
+ * {@link #getValue()} never wait for the loader. Once the refresh interval has
+ * passed the last good value is still returned while a refresh is executed on
+ * a virtual thread. Should the refresh fail the previous value is kept.
+ *
+ * @param <T> the type of the value
+ */
+final class RefreshAheadValue<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadValue.class);
+    private final String name;
+    private final Supplier<T> loader;
+    private final Duration refreshInterval;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Snapshot<T> snapshot;
+    private volatile Instant lastAttempt = Instant.MIN;
+
+    /**
+     * Creates a new value.
+     *
+     * @param name the name of the value used for logging and thread names
+     * @param loader the loader producing the value
+     * @param refreshInterval the interval after which the value is refreshed
+     * @param initialValue the value returned until the first load succeeded
+     */
+    RefreshAheadValue(final String name, final Supplier<T> loader, final Duration refreshInterval, final T initialValue) {
+        this.name = Objects.requireNonNull(name, "name must not be null!");
+        this.loader = Objects.requireNonNull(loader, "loader must not be null!");
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval must not be null!");
+        this.snapshot = new Snapshot<>(Objects.requireNonNull(initialValue, "initialValue must not be null!"), null);
+    }
+
+    /**
+     * Returns the last successfully loaded value without blocking. In case the
+     * refresh interval has passed a background refresh is triggered.
+     *
+     * @return the current value
+     */
+    T getValue() {
+        if (Instant.now().isAfter(lastAttempt.plus(refreshInterval))) {
+            refreshInBackground();
+        }
+
+        return snapshot.value();
+    }
+
+    /**
+     * Returns the current value without triggering a refresh.
+     *
+     * @return the current value
+     */
+    T peek() {
+        return snapshot.value();
+    }
+
+    /**
+     * Replaces the initial value unless a load already succeeded. The seeded
+     * value is not considered as loaded, i.e. it has no age.
+     *
+     * @param value the value to return until the first load succeeded
+     */
+    synchronized void seed(final T value) {
+        Objects.requireNonNull(value, "value must not be null!");
+
+        if (null == snapshot.loadedAt()) {
+            snapshot = new Snapshot<>(value, null);
+        }
+    }
+
+    /**
+     * {@return the age of the current value} The returned Optional is empty
+     * as long as no load succeeded.
+     */
+    Optional<Duration> getAge() {
+        return Optional.ofNullable(snapshot.loadedAt())
+                .map(loadedAt -> Duration.between(loadedAt, Instant.now()));
+    }
+
+    /**
+     * Loads the value on the calling thread. Failures are logged and leave the
+     * current value in place.
+     */
+    void refreshNow() {
+        lastAttempt = Instant.now();
+
+        try {
+            final T value = Objects.requireNonNull(loader.get(), "loader must not return null!");
+            synchronized (this) {
+                snapshot = new Snapshot<>(value, Instant.now());
+            }
+            LOG.debug("Refreshed {}", name);
+        } catch (final RuntimeException e) {
+            LOG.warn("Refreshing {} failed. Keeping value with age {}",
+                    name, getAge().map(Duration::toString).orElse("N/A"), e);
+        }
+    }
+
+    /**
+     * Loads the value on a virtual thread unless a background refresh is
+     * already running.
+     */
+    void refreshInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            Thread.ofVirtual().name(name + "-refresh").start(() -> {
+                try {
+                    refreshNow();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private static record Snapshot<T>(T value, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.tweetwallfx.conference.impl.PersistentFile.readString;
+import static org.tweetwallfx.conference.impl.PersistentFile.writeString;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent index of all shared photos ingested by
+ * {@link DevoxxPhotoSharingDataProvider} keyed by their ID.
+ *
+ * <p>
+ * The index tells exactly which of the shared photos have been ingested, so
+ * that requesting pages of shared photos can stop at the first known photo.
+ * It also allows to restore the ingested photos after a restart without
+ * requesting them again and provides the last known popularity of each photo,
+ * keeping the photos not flagged as spam ordered by their likes. It is stored
+ * in a {@link PersistentFile}.
+ */
+final class SharedPhotoIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedPhotoIndex.class);
+    private static final int MAGIC = 0x54574453;
+    private static final int FORMAT_VERSION = 2;
+    private static final Comparator<Entry> MOST_LIKED_FIRST = Comparator.comparingLong(Entry::likes).reversed()
+            // newer photos first among equally liked photos
+            .thenComparing(Comparator.comparing(Entry::createdAt).reversed())
+            .thenComparing(Entry::id);
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> byLikes = new ConcurrentSkipListSet<>(MOST_LIKED_FIRST);
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final PersistentFile<Long> persistentFile;
+
+    /**
+     * Creates an index stored in the given file.
+     *
+     * @param file the file the index is stored in
+     */
+    SharedPhotoIndex(final Path file) {
+        this.persistentFile = new PersistentFile<>(file, MAGIC, FORMAT_VERSION, "shared photo index",
+                modificationCount::get, (out, _) -> writeTo(out));
+    }
+
+    /**
+     * Checks if the shared photo with the given ID has been ingested.
+     *
+     * @param id the ID of the shared photo
+     *
+     * @return {@code true} if the shared photo is known
+     */
+    boolean contains(final String id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * Gets the entry of the shared photo with the given ID.
+     *
+     * @param id the ID of the shared photo
+     *
+     * @return the entry or an empty Optional if the shared photo is not known
+     */
+    Optional<Entry> get(final String id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    /**
+     * Adds the entry of an ingested shared photo or replaces it with an
+     * updated one.
+     *
+     * @param entry the entry
+     */
+    void put(final Entry entry) {
+        if (!entry.equals(index(entry))) {
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the ingested shared photos not flagged as spam, the most liked
+     * first.
+     *
+     * @return the entries of the shared photos not flagged as spam
+     */
+    Stream<Entry> mostLiked() {
+        return byLikes.stream();
+    }
+
+    private synchronized Entry index(final Entry entry) {
+        final Entry previous = entries.put(entry.id(), entry);
+
+        if (null != previous) {
+            byLikes.remove(previous);
+        }
+
+        if (!entry.flaggedAsSpam()) {
+            byLikes.add(entry);
+        }
+
+        return previous;
+    }
+
+    /**
+     * Gets all ingested shared photos.
+     *
+     * @return the entries of all ingested shared photos
+     */
+    Collection<Entry> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * Restores the index from its file.
+     *
+     * @return the number of restored shared photos
+     */
+    int restore() {
+        return persistentFile.restore(this::restoreFrom)
+                .orElseGet(() -> {
+                    clear();
+                    return 0;
+                });
+    }
+
+    /**
+     * Requests the index to be written. The write happens on a virtual thread
+     * after a short delay collecting further changes.
+     */
+    void requestWrite() {
+        persistentFile.requestWrite();
+    }
+
+    /**
+     * Writes the index on the calling thread unless nothing changed since the
+     * last write. Failures are logged.
+     */
+    void writeNow() {
+        persistentFile.writeNow();
+    }
+
+    private int restoreFrom(final ByteBuffer buffer) {
+        final int entrySize = buffer.getInt();
+        for (int i = 0; i < entrySize; i++) {
+            final String id = readString(buffer);
+            final Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+            final String url = readString(buffer);
+            final long likes = buffer.getLong();
+            final boolean flaggedAsSpam = 0 != buffer.get();
+
+            if (null == id || null == url) {
+                throw new IllegalArgumentException("Shared photo entry " + i + " is incomplete");
+            }
+
+            index(new Entry(id, createdAt, url, likes, flaggedAsSpam));
+        }
+
+        persistentFile.markWritten();
+        LOG.info("Restored {} shared photos", entries.size());
+        return entries.size();
+    }
+
+    private synchronized void clear() {
+        entries.clear();
+        byLikes.clear();
+    }
+
+    private void writeTo(final DataOutputStream out) throws IOException {
+        final Collection<Entry> currentEntries = entries();
+        out.writeInt(currentEntries.size());
+
+        for (final Entry entry : currentEntries) {
+            writeString(out, entry.id());
+            out.writeLong(entry.createdAt().toEpochMilli());
+            writeString(out, entry.url());
+            out.writeLong(entry.likes());
+            out.writeBoolean(entry.flaggedAsSpam());
+        }
+    }
+
+    /**
+     * An ingested shared photo.
+     *
+     * @param id the ID of the shared photo
+     * @param createdAt the date the photo was shared
+     * @param url the URL of the photo, which is also the key of its content in
+     * the URL content cache
+     * @param likes the number of likes of the photo when it was last seen
+     * @param flaggedAsSpam whether the photo was flagged as spam when it was
+     * last seen
+     */
+    static record Entry(String id, Instant createdAt, String url, long likes, boolean flaggedAsSpam) {
+
+        Entry {
+            Objects.requireNonNull(id, "id must not be null!");
+            Objects.requireNonNull(createdAt, "createdAt must not be null!");
+            Objects.requireNonNull(url, "url must not be null!");
+        }
+    }
+}
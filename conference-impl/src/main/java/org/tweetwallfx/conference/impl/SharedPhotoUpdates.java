@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Triggers the loading of new shared photos as soon as they are shared
+ * instead of waiting for the next scheduled execution.
+ *
+ * <p>
+ * The photos are loaded whenever the server sends an event on its
+ * <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">server-sent
+ * events</a> stream. The content of the events is not interpreted, they only
+ * signal that new photos are available. In case the server does not provide
+ * such a stream the photos are polled instead. The polling interval halves
+ * whenever new photos were loaded and doubles whenever there were none, so
+ * that bursts of shared photos are picked up quickly without requesting empty
+ * pages while nothing is shared.
+ */
+final class SharedPhotoUpdates {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedPhotoUpdates.class);
+    private static final String EVENT_STREAM = "text/event-stream";
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private final URI eventsUri;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final IntSupplier photoLoader;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean eventsSupported = true;
+    private volatile Duration pollInterval;
+    private volatile InputStream events;
+    private volatile Thread thread;
+
+    /**
+     * Creates the updates.
+     *
+     * @param eventsUri the URI of the server-sent events stream
+     * @param minPollInterval the shortest interval between two polls
+     * @param maxPollInterval the longest interval between two polls
+     * @param photoLoader loads the new shared photos and returns their number
+     */
+    SharedPhotoUpdates(final URI eventsUri, final Duration minPollInterval, final Duration maxPollInterval, final IntSupplier photoLoader) {
+        this.eventsUri = Objects.requireNonNull(eventsUri, "eventsUri must not be null!");
+        this.minPollInterval = Objects.requireNonNull(minPollInterval, "minPollInterval must not be null!");
+        this.maxPollInterval = Objects.requireNonNull(maxPollInterval, "maxPollInterval must not be null!");
+        this.photoLoader = Objects.requireNonNull(photoLoader, "photoLoader must not be null!");
+        this.pollInterval = minPollInterval;
+    }
+
+    /**
+     * Starts listening for updates on a virtual thread unless already started.
+     */
+    void start() {
+        if (started.compareAndSet(false, true)) {
+            thread = Thread.ofVirtual().name("devoxx-photo-updates").start(this::listen);
+        }
+    }
+
+    /**
+     * Stops listening for updates.
+     */
+    void stop() {
+        final Thread currentThread = thread;
+
+        if (null != currentThread) {
+            currentThread.interrupt();
+            closeEvents();
+        }
+    }
+
+    /**
+     * {@return whether the server provides the server-sent events stream}
+     * Assumed until a request for it is answered otherwise.
+     */
+    boolean isEventsSupported() {
+        return eventsSupported;
+    }
+
+    /**
+     * {@return the current interval between two polls}
+     */
+    Duration pollInterval() {
+        return pollInterval;
+    }
+
+    private void listen() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Duration delay;
+
+            if (eventsSupported && receiveEvents()) {
+                // the server closed the stream, reconnect shortly
+                delay = minPollInterval;
+            } else {
+                adaptPollInterval(loadPhotos());
+                delay = pollInterval;
+            }
+
+            try {
+                Thread.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Adapts the interval between two polls to the number of photos loaded by
+     * the last poll.
+     *
+     * @param loadedPhotos the number of photos loaded by the last poll
+     */
+    void adaptPollInterval(final int loadedPhotos) {
+        final Duration currentPollInterval = pollInterval;
+
+        pollInterval = loadedPhotos > 0
+                ? max(minPollInterval, currentPollInterval.dividedBy(2))
+                : min(maxPollInterval, currentPollInterval.multipliedBy(2));
+        LOG.debug("Polling shared photos every {}", pollInterval);
+    }
+
+    /**
+     * Receives the server-sent events until the stream is closed.
+     *
+     * @return {@code true} if the events were received, {@code false} if they
+     * could not be received and the photos need to be polled instead
+     */
+    private boolean receiveEvents() {
+        final HttpRequest request = HttpRequest.newBuilder(eventsUri)
+                .header("Accept", EVENT_STREAM)
+                .GET()
+                .build();
+
+        try {
+            final HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            events = response.body();
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                if (200 != response.statusCode()
+                        || !response.headers().firstValue("Content-Type").orElse("").startsWith(EVENT_STREAM)) {
+                    LOG.info("No shared photo events available at {} (HTTP {}). Polling instead.", eventsUri, response.statusCode());
+                    eventsSupported = false;
+                    return false;
+                }
+
+                LOG.info("Receiving shared photo events from {}", eventsUri);
+                // photos shared while not connected
+                loadPhotos();
+
+                boolean hasData = false;
+                String line;
+                while (null != (line = reader.readLine())) {
+                    if (line.isEmpty()) {
+                        // end of an event
+                        if (hasData) {
+                            loadPhotos();
+                        }
+                        hasData = false;
+                    } else if (line.startsWith("data")) {
+                        hasData = true;
+                    }
+                }
+            }
+
+            return true;
+        } catch (final IOException e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                LOG.info("Failed to receive shared photo events from {}", eventsUri, e);
+            }
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        } finally {
+            events = null;
+        }
+    }
+
+    private int loadPhotos() {
+        try {
+            return photoLoader.getAsInt();
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to load shared photos", e);
+            return 0;
+        }
+    }
+
+    private void closeEvents() {
+        final InputStream currentEvents = events;
+
+        if (null != currentEvents) {
+            try {
+                currentEvents.close();
+            } catch (final IOException e) {
+                LOG.debug("Failed to close shared photo events", e);
+            }
+        }
+    }
+
+    private static Duration min(final Duration l, final Duration r) {
+        return l.compareTo(r) <= 0 ? l : r;
+    }
+
+    private static Duration max(final Duration l, final Duration r) {
+        return l.compareTo(r) >= 0 ? l : r;
+    }
+}
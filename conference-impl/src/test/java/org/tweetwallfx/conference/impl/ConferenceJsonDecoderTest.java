@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.conference.api.Identifiable;
+import org.tweetwallfx.conference.api.ScheduleSlot;
+import org.tweetwallfx.conference.api.Speaker;
+import org.tweetwallfx.conference.api.Talk;
+
+class ConferenceJsonDecoderTest {
+
+    private final ConferenceJsonDecoder decoder = new ConferenceJsonDecoder(
+            byId(ConferenceJsonDecoder.decodeSessionTypes(new ByteArrayInputStream(payload("session-types.json")))),
+            byId(ConferenceJsonDecoder.decodeRooms(new ByteArrayInputStream(payload("rooms.json")))),
+            byId(ConferenceJsonDecoder.decodeTracks(new ByteArrayInputStream(payload("tracks.json")))));
+
+    @Test
+    void decodesScheduleSlots() {
+        final List<ScheduleSlot> scheduleSlots = decoder.decodeScheduleSlots(
+                new ByteArrayInputStream(payload("schedule-friday.json")),
+                new DecodingGeneration(Map.of("4300", 1234)));
+
+        assertThat(scheduleSlots).hasSize(15);
+
+        final ScheduleSlot scheduleSlot = scheduleSlots.getFirst();
+        assertThat(scheduleSlot.getId()).isEqualTo("61000");
+        assertThat(scheduleSlot.getRoom().getName()).isEqualTo("Room 8");
+
+        final Talk talk = scheduleSlot.getTalk().orElseThrow();
+        assertThat(talk.getId()).isEqualTo("4300");
+        assertThat(talk.getName()).isEqualTo("Session number 0 on modern Java");
+        // favorite count from the public event stats takes precedence
+        assertThat(talk.getFavoriteCount()).isEqualTo(1234);
+        assertThat(talk.getTrack().getName()).isEqualTo("Java");
+        assertThat(talk.getSpeakers())
+                .extracting(Speaker::getFullName)
+                .containsExactly("Hana Janssens");
+
+        // break without a talk
+        assertThat(scheduleSlots.getLast().getTalk()).isEmpty();
+    }
+
+    @Test
+    void decodesTalksReferencingById() {
+        final List<Talk> talks = decoder.decodeTalks(new ByteArrayInputStream(payload("talks.json")), new DecodingGeneration(Map.of()));
+
+        assertThat(talks).hasSize(15);
+
+        final Talk talk = talks.get(1);
+        assertThat(talk.getId()).isEqualTo("4301");
+        assertThat(talk.getTrack().getName()).isEqualTo("Build & Deploy");
+        assertThat(talk.getSessionType().getName()).isEqualTo("Tools-in-Action");
+        assertThat(talk.getTags()).hasSize(3);
+        assertThat(talk.getSpeakers()).hasSize(2);
+        assertThat(talk.getScheduleSlots())
+                .extracting(s -> s.getRoom().getName())
+                .containsExactly("Room 5");
+    }
+
+    @Test
+    void sharesObjectsWithinGeneration() {
+        final DecodingGeneration generation = new DecodingGeneration(Map.of());
+        final List<ScheduleSlot> scheduleSlots = decoder.decodeScheduleSlots(new ByteArrayInputStream(payload("schedule-friday.json")), generation);
+        final List<ScheduleSlot> scheduleSlotsAgain = decoder.decodeScheduleSlots(new ByteArrayInputStream(payload("schedule-friday.json")), generation);
+        final Map<String, Talk> talks = byId(decoder.decodeTalks(new ByteArrayInputStream(payload("talks.json")), generation));
+        final List<ScheduleSlot> scheduleSlotsOfOtherGeneration = decoder.decodeScheduleSlots(
+                new ByteArrayInputStream(payload("schedule-friday.json")),
+                new DecodingGeneration(Map.of()));
+
+        final Talk talk = scheduleSlots.getFirst().getTalk().orElseThrow();
+        assertThat(scheduleSlotsAgain.getFirst().getTalk()).containsSame(talk);
+        // talks.json has differing values for the same talk so it must not be shared
+        assertThat(talks.get("4300")).isNotSameAs(talk);
+        assertThat(talks.get("4300").getAudienceLevel()).isEqualTo("INTERMEDIATE");
+        assertThat(scheduleSlotsOfOtherGeneration.getFirst().getTalk().orElseThrow()).isNotSameAs(talk);
+
+        // tag "Cloud" is shared by talks 4300 and 4301
+        final Talk otherTalk = scheduleSlots.get(1).getTalk().orElseThrow();
+        assertThat(otherTalk.getTags().get(1)).isEqualTo("Cloud").isSameAs(talk.getTags().get(2));
+    }
+
+    @Test
+    void sharedObjectsEqualIndependentDecoding() {
+        final DecodingGeneration generation = new DecodingGeneration(Map.of());
+        decoder.decodeScheduleSlots(new ByteArrayInputStream(payload("schedule-friday.json")), generation);
+        final List<Talk> sharedTalks = decoder.decodeTalks(new ByteArrayInputStream(payload("talks.json")), generation);
+        final List<Speaker> sharedSpeakers = decoder.decodeSpeakers(new ByteArrayInputStream(payload("speakers.json")), generation);
+
+        final List<Talk> independentTalks = decoder.decodeTalks(
+                new ByteArrayInputStream(payload("talks.json")),
+                new DecodingGeneration(Map.of()));
+        final List<Speaker> independentSpeakers = decoder.decodeSpeakers(
+                new ByteArrayInputStream(payload("speakers.json")),
+                new DecodingGeneration(Map.of()));
+
+        assertThat(sharedTalks).usingRecursiveComparison().isEqualTo(independentTalks);
+        assertThat(sharedSpeakers).usingRecursiveComparison().isEqualTo(independentSpeakers);
+    }
+
+    private static <T extends Identifiable> Map<String, T> byId(final List<T> identifiables) {
+        return identifiables.stream()
+                .collect(Collectors.toMap(Identifiable::getId, Function.identity()));
+    }
+
+    static byte[] payload(final String name) {
+        try (InputStream in = ConferenceJsonDecoderTest.class.getResourceAsStream("/payloads/" + name)) {
+            return in.readAllBytes();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
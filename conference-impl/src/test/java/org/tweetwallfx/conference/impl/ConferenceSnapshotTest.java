@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConferenceSnapshotTest {
+
+    private static final String URL = "https://example.com/api/tracks";
+
+    private static final ConferenceSnapshot.Ratings RATINGS = new ConferenceSnapshot.Ratings(
+            Map.of("4300", 17, "4301", 4),
+            Map.of("monday", List.of(
+                    new ConferenceSnapshot.Rating("4300", 4.5, 12),
+                    new ConferenceSnapshot.Rating("4301", 3.25, 8))));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ratingsSurviveRoundTrip() {
+        final Path file = directory.resolve("cache").resolve("conference.snapshot");
+        new ConferenceSnapshot(file, new PayloadCache(), () -> RATINGS).writeNow();
+
+        assertThat(new ConferenceSnapshot(file, new PayloadCache(), () -> RATINGS).restore())
+                .contains(RATINGS);
+    }
+
+    @Test
+    void unchangedSnapshotIsNotWrittenAgain() throws IOException {
+        final Path file = directory.resolve("conference.snapshot");
+        final ConferenceSnapshot snapshot = new ConferenceSnapshot(file, new PayloadCache(), () -> RATINGS);
+        snapshot.writeNow();
+        Files.delete(file);
+
+        snapshot.writeNow();
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void restoredSnapshotIsNotWrittenAgain() throws IOException {
+        final Path file = directory.resolve("conference.snapshot");
+        new ConferenceSnapshot(file, payloads(), () -> RATINGS).writeNow();
+
+        final ConferenceSnapshot snapshot = new ConferenceSnapshot(file, new PayloadCache(), () -> RATINGS);
+        assertThat(snapshot.restore()).contains(RATINGS);
+        Files.delete(file);
+        snapshot.writeNow();
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void truncatedSnapshotIsDiscardedAsAWhole() throws IOException {
+        final Path file = directory.resolve("conference.snapshot");
+        new ConferenceSnapshot(file, payloads(), () -> RATINGS).writeNow();
+        final byte[] content = Files.readAllBytes(file);
+
+        // cut off within the payloads as well as within the ratings following them
+        for (int length = 8; length < content.length; length++) {
+            Files.write(file, Arrays.copyOf(content, length));
+            final PayloadCache restoredPayloads = new PayloadCache();
+
+            assertThat(new ConferenceSnapshot(file, restoredPayloads, () -> RATINGS).restore()).isEmpty();
+            assertThat(restoredPayloads.peek(URL)).isEmpty();
+        }
+    }
+
+    @Test
+    void missingOrCorruptSnapshotIsIgnored() throws IOException {
+        final Path file = directory.resolve("conference.snapshot");
+        final ConferenceSnapshot snapshot = new ConferenceSnapshot(file, new PayloadCache(), () -> RATINGS);
+
+        assertThat(snapshot.restore()).isEmpty();
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(snapshot.restore()).isEmpty();
+    }
+
+    private static PayloadCache payloads() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            PayloadCacheTest.writePayload(out, URL, 2);
+        }
+
+        final PayloadCache payloads = new PayloadCache();
+        payloads.restoreFrom(ByteBuffer.wrap(bytes.toByteArray()));
+        return payloads;
+    }
+}
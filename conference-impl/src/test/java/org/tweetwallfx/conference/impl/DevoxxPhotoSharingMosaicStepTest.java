@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class DevoxxPhotoSharingMosaicStepTest {
+
+    private static final Set<String> SPAM = Set.of("spam-1", "spam-2");
+
+    @Test
+    void spamIsDroppedAndMostLikedAreKept() {
+        final List<String> selected = DevoxxPhotoSharingMosaicStep.selectImages(
+                List.of("liked-1", "liked-2"),
+                List.of("a", "spam-1", "b", "liked-2", "c", "spam-2", "d", "e"),
+                SPAM::contains,
+                4,
+                new Random(42));
+
+        assertThat(selected)
+                .hasSize(4)
+                .doesNotHaveDuplicates()
+                .doesNotContainAnyElementsOf(SPAM)
+                .startsWith("liked-1", "liked-2");
+        assertThat(selected.subList(2, 4)).isSubsetOf("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void mostLikedAreLimitedToNumberOfImages() {
+        final List<String> selected = DevoxxPhotoSharingMosaicStep.selectImages(
+                List.of("liked-1", "spam-1", "liked-2", "liked-3"),
+                List.of("a", "b"),
+                SPAM::contains,
+                2,
+                new Random(42));
+
+        assertThat(selected).containsExactly("liked-1", "liked-2");
+    }
+
+    @Test
+    void fewerCandidatesThanNumberOfImages() {
+        final List<String> selected = DevoxxPhotoSharingMosaicStep.selectImages(
+                List.of(),
+                List.of("a", "spam-1"),
+                SPAM::contains,
+                5,
+                new Random(42));
+
+        assertThat(selected).containsExactly("a");
+    }
+}
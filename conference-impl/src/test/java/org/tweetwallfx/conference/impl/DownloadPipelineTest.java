@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class DownloadPipelineTest {
+
+    @Test
+    void downloadsNewestFirst() throws Exception {
+        final DownloadPipeline pipeline = new DownloadPipeline("test-download", 1, 10);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(4);
+        final List<String> downloaded = new CopyOnWriteArrayList<>();
+
+        pipeline.submit(Instant.parse("2025-10-06T09:00:00Z"), () -> {
+            await(blocked);
+            downloaded.add("blocking");
+            done.countDown();
+        });
+        awaitPending(pipeline, 0);
+        for (final String dateTaken : List.of("2025-10-06T10:00:00Z", "2025-10-08T10:00:00Z", "2025-10-07T10:00:00Z")) {
+            pipeline.submit(Instant.parse(dateTaken), () -> {
+                downloaded.add(dateTaken);
+                done.countDown();
+            });
+        }
+        blocked.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(downloaded).containsExactly(
+                "blocking",
+                "2025-10-08T10:00:00Z",
+                "2025-10-07T10:00:00Z",
+                "2025-10-06T10:00:00Z");
+    }
+
+    @Test
+    void blocksSubmissionWhileQueueIsFull() throws Exception {
+        final DownloadPipeline pipeline = new DownloadPipeline("test-download", 1, 1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch submitted = new CountDownLatch(1);
+
+        pipeline.submit(Instant.EPOCH, () -> await(blocked));
+        awaitPending(pipeline, 0);
+        pipeline.submit(Instant.EPOCH, () -> {
+        });
+        Thread.ofVirtual().start(() -> {
+            pipeline.submit(Instant.EPOCH, () -> {
+            });
+            submitted.countDown();
+        });
+
+        assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        blocked.countDown();
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitPending(final DownloadPipeline pipeline, final int pendingCount) throws InterruptedException {
+        while (pipeline.pendingCount() != pendingCount) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
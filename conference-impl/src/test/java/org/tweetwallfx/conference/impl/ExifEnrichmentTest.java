@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flickr4java.flickr.FlickrException;
+import com.flickr4java.flickr.photos.Exif;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tweetwallfx.conference.impl.ExifEnrichment.ExifInfo;
+import org.tweetwallfx.conference.impl.ExifEnrichment.Orientation;
+
+class ExifEnrichmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void landscapeOrientation() {
+        final ExifInfo exifInfo = ExifInfo.of(List.of(
+                exif("Make", "Canon"),
+                exif("Model", "Canon EOS R5"),
+                exif("Orientation", "Horizontal (normal)"),
+                exif("ExifImageWidth", "8192"),
+                exif("ExifImageHeight", "5464")));
+
+        assertThat(exifInfo).isEqualTo(new ExifInfo(Orientation.LANDSCAPE, "Canon", "Canon EOS R5"));
+        assertThat(exifInfo.additionalData()).isEqualTo(Map.of(
+                ExifInfo.ORIENTATION, Orientation.LANDSCAPE,
+                ExifInfo.CAMERA_MAKE, "Canon",
+                ExifInfo.CAMERA_MODEL, "Canon EOS R5"));
+    }
+
+    @Test
+    void rotatedPhotoIsPortrait() {
+        final ExifInfo exifInfo = ExifInfo.of(List.of(
+                exif("Orientation", "Rotate 90 CW"),
+                exif("ExifImageWidth", "6000"),
+                exif("ExifImageHeight", "4000")));
+
+        assertThat(exifInfo.orientation()).isEqualTo(Orientation.PORTRAIT);
+    }
+
+    @Test
+    void orientationUnknownWithoutDimensions() {
+        final ExifInfo exifInfo = ExifInfo.of(List.of(exif("Orientation", "Horizontal (normal)")));
+
+        assertThat(exifInfo).isEqualTo(ExifInfo.NONE);
+        assertThat(exifInfo.additionalData()).isEmpty();
+    }
+
+    @Test
+    void enrichmentSurvivesRestart() throws InterruptedException {
+        final Path file = directory.resolve("flickr-exif.cache");
+        final CountDownLatch loaded = new CountDownLatch(1);
+        final ExifEnrichment exifEnrichment = new ExifEnrichment(file, Duration.ZERO, photoId -> {
+            loaded.countDown();
+            return List.of(exif("ExifImageWidth", "4000"), exif("ExifImageHeight", "6000"), exif("Model", "X-T5"));
+        });
+
+        exifEnrichment.request("53210987654", Instant.now());
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+        while (exifEnrichment.get("53210987654").isEmpty()) {
+            Thread.sleep(10);
+        }
+        exifEnrichment.writeNow();
+
+        final ExifEnrichment restored = new ExifEnrichment(file, Duration.ZERO, photoId -> {
+            throw new AssertionError("EXIF data of " + photoId + " requested again");
+        });
+        restored.request("53210987654", Instant.now());
+
+        assertThat(restored.get("53210987654")).contains(new ExifInfo(Orientation.PORTRAIT, null, "X-T5"));
+    }
+
+    @Test
+    void onlyUnavailableExifDataIsCached() throws InterruptedException {
+        final BlockingQueue<String> requested = new LinkedBlockingQueue<>();
+        final ExifEnrichment exifEnrichment = new ExifEnrichment(directory.resolve("flickr-exif.cache"), Duration.ZERO, photoId -> {
+            requested.add(photoId);
+            // "Permission denied" for hidden EXIF data, otherwise "Service currently unavailable"
+            throw new CompletionException(new FlickrException("hidden".equals(photoId) ? "2" : "105", "failed"));
+        });
+
+        exifEnrichment.request("hidden", Instant.now());
+        exifEnrichment.request("unavailable", Instant.now());
+        assertThat(Arrays.asList(requested.poll(5, TimeUnit.SECONDS), requested.poll(5, TimeUnit.SECONDS)))
+                .containsExactlyInAnyOrder("hidden", "unavailable");
+        while (exifEnrichment.get("hidden").isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        assertThat(exifEnrichment.get("hidden")).contains(ExifInfo.NONE);
+        assertThat(exifEnrichment.get("unavailable")).isEmpty();
+
+        // the failed request is no longer pending once it is through, so the photo is requested again
+        String requestedAgain = null;
+        for (int i = 0; i < 50 && requestedAgain == null; i++) {
+            exifEnrichment.request("unavailable", Instant.now());
+            requestedAgain = requested.poll(100, TimeUnit.MILLISECONDS);
+        }
+        assertThat(requestedAgain).isEqualTo("unavailable");
+    }
+
+    private static Exif exif(final String tag, final String raw) {
+        final Exif exif = new Exif();
+        exif.setTagspace("ExifIFD");
+        exif.setTag(tag);
+        exif.setRaw(raw);
+        return exif;
+    }
+}
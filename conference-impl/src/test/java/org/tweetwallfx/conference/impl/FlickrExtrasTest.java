@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flickr4java.flickr.photos.Extras;
+import com.flickr4java.flickr.photos.Photo;
+import com.flickr4java.flickr.photos.PhotoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+class FlickrExtrasTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlickrExtrasTest.class);
+
+    @Test
+    void defaultsToMinimalExtras() {
+        final FlickrSettings settings = new FlickrSettings("key", "secret", "user", null, null, null, null, null, null, null);
+
+        assertThat(settings.extras())
+                .isEqualTo(FlickrSettings.DEFAULT_EXTRAS)
+                .containsExactlyInAnyOrder(Extras.DATE_UPLOAD, Extras.DATE_TAKEN, Extras.URL_L, "url_c", "url_z", "url_n", Extras.URL_M, Extras.URL_S);
+    }
+
+    @Test
+    void defaultExtrasProvideWhatTheWallNeeds() throws Exception {
+        final List<Photo> photos = photos("flickr-photoset-default-extras.xml");
+
+        assertThat(photos).hasSize(12);
+        assertThat(photos).allSatisfy(photo -> {
+            assertThat(photo.getDatePosted()).isNotNull();
+            assertThat(photo.getDateTaken()).isNotNull();
+            assertThat(photo.getLargeSize().getSource()).endsWith("_l.jpg");
+            assertThat(photo.getMedium800Size().getSource()).endsWith("_c.jpg");
+            assertThat(photo.getMedium640Size().getSource()).endsWith("_z.jpg");
+            assertThat(photo.getSmall320Size().getSource()).endsWith("_n.jpg");
+            assertThat(photo.getMediumSize().getSource()).endsWith(".jpg");
+            assertThat(photo.getSmallSize().getSource()).endsWith("_s.jpg");
+        });
+    }
+
+    @Test
+    void defaultExtrasShrinkPagePayload() throws Exception {
+        final byte[] allExtras = ConferenceJsonDecoderTest.payload("flickr-photoset-all-extras.xml");
+        final byte[] defaultExtras = ConferenceJsonDecoderTest.payload("flickr-photoset-default-extras.xml");
+
+        LOG.info("Page payload of {} photos: {} bytes with all extras, {} bytes with default extras",
+                photos("flickr-photoset-default-extras.xml").size(), allExtras.length, defaultExtras.length);
+        // same photos in both pages, sources of the sizes used by the wall are identical
+        assertThat(photos("flickr-photoset-default-extras.xml"))
+                .extracting(photo -> photo.getLargeSize().getSource())
+                .containsExactlyElementsOf(photos("flickr-photoset-all-extras.xml").stream()
+                        .map(photo -> photo.getLargeSize().getSource())
+                        .toList());
+        assertThat(defaultExtras.length).isLessThan(allExtras.length * 2 / 3);
+    }
+
+    static List<Photo> photos(final String name) throws IOException, ParserConfigurationException, SAXException {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+
+        final Element photoset = (Element) factory.newDocumentBuilder()
+                .parse(new ByteArrayInputStream(ConferenceJsonDecoderTest.payload(name)))
+                .getDocumentElement()
+                .getElementsByTagName("photoset")
+                .item(0);
+        return PhotoUtils.createPhotoList(photoset);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flickr4java.flickr.photos.Photo;
+import com.flickr4java.flickr.photos.Size;
+
+import javafx.geometry.Dimension2D;
+
+import org.junit.jupiter.api.Test;
+
+class FlickrPhotoDataProviderTest {
+
+    @Test
+    void selectsSmallestSizeCoveringDisplayArea() throws Exception {
+        final Photo photo = FlickrExtrasTest.photos("flickr-photoset-default-extras.xml").getFirst();
+
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), new Dimension2D(200, 150)))
+                .map(Size::getWidth)
+                .contains(240);
+        // either dimension covering the area suffices as the aspect ratio is retained
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), new Dimension2D(600, 320)))
+                .map(Size::getWidth)
+                .contains(500);
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), new Dimension2D(1000, 600)))
+                .map(Size::getWidth)
+                .contains(1024);
+    }
+
+    @Test
+    void selectsSizePerDisplayArea() throws Exception {
+        final Photo photo = FlickrExtrasTest.photos("flickr-photoset-default-extras.xml").getFirst();
+        final FlickrMosaicStep.Config config = new FlickrMosaicStep.Config();
+
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), config.cellDisplayArea()))
+                .map(Size::getSource)
+                .hasValueSatisfying(source -> assertThat(source).endsWith("_n.jpg"));
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), new Dimension2D(700, 400)))
+                .map(Size::getSource)
+                .hasValueSatisfying(source -> assertThat(source).endsWith("_z.jpg"));
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), config.highlightDisplayArea()))
+                .map(Size::getSource)
+                .hasValueSatisfying(source -> assertThat(source).endsWith("_l.jpg"));
+    }
+
+    @Test
+    void selectsLargestSizeWhenNoneCoversDisplayArea() throws Exception {
+        final Photo photo = FlickrExtrasTest.photos("flickr-photoset-default-extras.xml").getFirst();
+
+        assertThat(FlickrPhotoDataProvider.selectSize(photo.getSizes(), new Dimension2D(1600, 900)))
+                .map(Size::getWidth)
+                .contains(1024);
+    }
+
+    @Test
+    void selectsNothingWithoutSizes() {
+        assertThat(FlickrPhotoDataProvider.selectSize(new Photo().getSizes(), new Dimension2D(200, 150)))
+                .isEmpty();
+    }
+}
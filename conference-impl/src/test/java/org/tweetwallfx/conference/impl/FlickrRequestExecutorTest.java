@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flickr4java.flickr.FlickrException;
+import com.flickr4java.flickr.FlickrRuntimeException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class FlickrRequestExecutorTest {
+
+    private final FlickrRequestExecutor executor = new FlickrRequestExecutor(
+            new FlickrSettings("key", "secret", "user", null, 1000.0, 2, 0L, null, null, null));
+
+    @Test
+    void transientFailuresAreRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final String result = executor.execute("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new FlickrRuntimeException(new IOException("connection reset"));
+            }
+
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void permanentFailuresAreNotRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw new FlickrException("1", "Photoset not found");
+        })).isInstanceOf(CompletionException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void classifiesFailures() {
+        assertThat(FlickrRequestExecutor.isTransient(new FlickrRuntimeException(new IOException("timeout")))).isTrue();
+        assertThat(FlickrRequestExecutor.isTransient(new FlickrException("105", "Service currently unavailable"))).isTrue();
+        assertThat(FlickrRequestExecutor.isTransient(
+                new FlickrException("105", "Received 'Bad Gateway' error from Flickr with status 502"))).isTrue();
+        assertThat(FlickrRequestExecutor.isTransient(
+                new FlickrException("105", "Received 'Too Many Requests' error from Flickr with status 429"))).isTrue();
+        assertThat(FlickrRequestExecutor.isTransient(
+                new FlickrException("105", "Received 'Not Found' error from Flickr with status 404"))).isFalse();
+        assertThat(FlickrRequestExecutor.isTransient(new FlickrException("2", "Permission denied"))).isFalse();
+        assertThat(FlickrRequestExecutor.isTransient(new FlickrRuntimeException("oauth_problem=signature_invalid"))).isFalse();
+        assertThat(FlickrRequestExecutor.isTransient(new IllegalStateException())).isFalse();
+    }
+}
@@ -32,7 +32,7 @@ import com.flickr4java.flickr.photosets.Photoset;
 @org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable(named = "CI", matches = ".*")
 public class FlickrServiceTest {
 
-    private final FlickrService fs = new FlickrService();
+    private final FlickrService fs = FlickrService.getInstance();
 
     @org.junit.jupiter.api.Test
     void getAllPhotosets() {
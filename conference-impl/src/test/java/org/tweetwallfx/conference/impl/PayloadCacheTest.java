@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.conference.api.Track;
+
+class PayloadCacheTest {
+
+    private static final String LAST_MODIFIED = "Fri, 10 Oct 2025 08:00:00 GMT";
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicReference<String> entityTag = new AtomicReference<>("\"v1\"");
+    private final CountDownLatch slowResponse = new CountDownLatch(1);
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/tracks", this::serveTracks);
+        server.createContext("/paged", this::servePaged);
+        server.createContext("/slow", this::serveSlow);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ':' + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void revalidationWithEntityTagReusesDecodedList() {
+        final PayloadCache payloads = new PayloadCache();
+        final Object key = new Object();
+
+        final List<Track> first = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+        final List<Track> second = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+
+        assertThat(first).isNotEmpty();
+        assertThat(second).isSameAs(first);
+        assertThat(requests).hasValue(2);
+        assertThat(fullResponses).hasValue(1);
+    }
+
+    @Test
+    void changedEntityTagDecodesAgain() {
+        final PayloadCache payloads = new PayloadCache();
+        final Object key = new Object();
+
+        final List<Track> first = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+        entityTag.set("\"v2\"");
+        final List<Track> second = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+        final List<Track> third = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+
+        // identical content is still detected and keeps the decoded list
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(requests).hasValue(3);
+        assertThat(fullResponses).hasValue(2);
+    }
+
+    @Test
+    void revalidationWithLastModifiedCoversAllPages() {
+        final PayloadCache payloads = new PayloadCache();
+        final Object key = new Object();
+
+        final List<Track> first = payloads.revalidate(baseUrl + "/paged").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+        final List<Track> second = payloads.revalidate(baseUrl + "/paged").orElseThrow()
+                .decodeList(key, ConferenceJsonDecoder::decodeTracks);
+
+        assertThat(first).hasSize(2 * ConferenceJsonDecoder.decodeTracks(
+                new ByteArrayInputStream(ConferenceJsonDecoderTest.payload("tracks.json"))).size());
+        assertThat(second).isSameAs(first);
+        assertThat(requests).hasValue(4);
+        assertThat(fullResponses).hasValue(2);
+    }
+
+    @Test
+    void freshPayloadIsServedWithoutRequest() {
+        final PayloadCache payloads = new PayloadCache();
+
+        assertThat(payloads.get(baseUrl + "/tracks", Duration.ofMinutes(1))).isPresent();
+        assertThat(payloads.get(baseUrl + "/tracks", Duration.ofMinutes(1))).isPresent();
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void peekNeverRequests() {
+        final PayloadCache payloads = new PayloadCache();
+
+        assertThat(payloads.peek(baseUrl + "/tracks")).isEmpty();
+        assertThat(payloads.get(baseUrl + "/tracks", Duration.ofMinutes(1))).isPresent();
+        assertThat(payloads.peek(baseUrl + "/tracks")).isPresent();
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void concurrentRefreshesShareOneRequest() throws InterruptedException {
+        final PayloadCache payloads = new PayloadCache();
+        final AtomicReference<Optional<PayloadCache.Payload>> first = new AtomicReference<>();
+        final AtomicReference<Optional<PayloadCache.Payload>> second = new AtomicReference<>();
+        final Thread firstRefresh = new Thread(() -> first.set(payloads.refresh(baseUrl + "/slow")));
+        final Thread secondRefresh = new Thread(() -> second.set(payloads.refresh(baseUrl + "/slow")));
+
+        firstRefresh.start();
+        while (0 == requests.get()) {
+            Thread.sleep(10);
+        }
+        secondRefresh.start();
+        // waiting for the refresh in flight
+        while (Thread.State.WAITING != secondRefresh.getState()) {
+            Thread.sleep(10);
+        }
+        slowResponse.countDown();
+        firstRefresh.join();
+        secondRefresh.join();
+
+        assertThat(first.get()).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void evictedPayloadsAreRemoved() {
+        final AtomicInteger modifications = new AtomicInteger();
+        final PayloadCache payloads = new PayloadCache(modifications::incrementAndGet);
+        payloads.revalidate(baseUrl + "/tracks");
+        payloads.revalidate(baseUrl + "/paged");
+        final long modificationCount = payloads.modificationCount();
+
+        assertThat(payloads.evictIf(url -> url.endsWith("/unknown"))).isZero();
+        assertThat(payloads.modificationCount()).isEqualTo(modificationCount);
+        assertThat(payloads.evictIf(url -> url.endsWith("/tracks"))).isEqualTo(1);
+        assertThat(payloads.modificationCount()).isGreaterThan(modificationCount);
+        assertThat(modifications).hasValue(3);
+        assertThat(payloads.urls()).containsExactly(baseUrl + "/paged");
+        assertThat(payloads.peek(baseUrl + "/tracks")).isEmpty();
+    }
+
+    @Test
+    void corruptPayloadsAreNotRestored() throws IOException {
+        final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(snapshot)) {
+            writePayload(out, baseUrl + "/tracks", -1);
+        }
+        final PayloadCache payloads = new PayloadCache();
+
+        assertThatThrownBy(() -> payloads.restoreFrom(ByteBuffer.wrap(snapshot.toByteArray())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(payloads.peek(baseUrl + "/tracks")).isEmpty();
+    }
+
+    @Test
+    void restoredPayloadIsServedWhileServerIsUnreachable() throws IOException {
+        final PayloadCache payloads = new PayloadCache();
+        final List<Track> tracks = payloads.revalidate(baseUrl + "/tracks").orElseThrow()
+                .decodeList(ConferenceJsonDecoder::decodeTracks);
+        final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(snapshot)) {
+            payloads.writeTo(out);
+        }
+
+        final PayloadCache restoredPayloads = new PayloadCache();
+        assertThat(restoredPayloads.restoreFrom(ByteBuffer.wrap(snapshot.toByteArray()))).isEqualTo(1);
+        server.stop(0);
+
+        // restored payloads are served even though the server is gone
+        assertThat(restoredPayloads.get(baseUrl + "/tracks", Duration.ZERO).orElseThrow()
+                .decodeList(ConferenceJsonDecoder::decodeTracks))
+                .extracting(Track::getId)
+                .containsExactlyElementsOf(tracks.stream().map(Track::getId).toList());
+        assertThat(requests).hasValue(1);
+    }
+
+    /**
+     * Writes a single payload of a single page with the given content length
+     * the way {@link PayloadCache#writeTo(DataOutputStream)} does.
+     */
+    static void writePayload(final DataOutputStream out, final String url, final int contentLength) throws IOException {
+        out.writeInt(1);
+        PersistentFile.writeString(out, url);
+        out.writeLong(0L);
+        out.writeInt(1);
+        PersistentFile.writeString(out, url);
+        PersistentFile.writeString(out, "\"v1\"");
+        PersistentFile.writeString(out, null);
+        PersistentFile.writeString(out, null);
+        out.writeInt(contentLength);
+        out.write(new byte[Math.max(contentLength, 0)]);
+    }
+
+    private void serveTracks(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+
+        if (entityTag.get().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            respondNotModified(exchange);
+        } else {
+            exchange.getResponseHeaders().set("ETag", entityTag.get());
+            respond(exchange);
+        }
+    }
+
+    private void servePaged(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+
+        if (LAST_MODIFIED.equals(exchange.getRequestHeaders().getFirst("If-Modified-Since"))) {
+            respondNotModified(exchange);
+        } else {
+            exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+            if (null == exchange.getRequestURI().getQuery()) {
+                exchange.getResponseHeaders().set("Link", "</paged?page=2>; rel=\"next\"");
+            }
+            respond(exchange);
+        }
+    }
+
+    private void serveSlow(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+
+        try {
+            slowResponse.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange);
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        fullResponses.incrementAndGet();
+        final byte[] content = ConferenceJsonDecoderTest.payload("tracks.json");
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, content.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private static void respondNotModified(final HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+    }
+}
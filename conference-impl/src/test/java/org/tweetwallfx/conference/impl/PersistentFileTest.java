@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentFileTest {
+
+    private static final int MAGIC = 0x54575446;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void stateSurvivesRoundTrip() {
+        final Path file = directory.resolve("cache").resolve("test.state");
+        final AtomicReference<String> state = new AtomicReference<>("first");
+        final PersistentFile<String> persistentFile = persistentFile(file, 1, state);
+
+        persistentFile.writeNow();
+
+        assertThat(persistentFile(file, 1, new AtomicReference<>()).restore(PersistentFile::readString)).contains("first");
+    }
+
+    @Test
+    void unchangedStateIsNotWrittenAgain() {
+        final Path file = directory.resolve("test.state");
+        final AtomicReference<String> state = new AtomicReference<>("first");
+        final AtomicInteger writes = new AtomicInteger();
+        final PersistentFile<String> persistentFile = new PersistentFile<>(file, MAGIC, 1, "test state", state::get, (out, value) -> {
+            writes.incrementAndGet();
+            PersistentFile.writeString(out, value);
+        });
+
+        persistentFile.writeNow();
+        persistentFile.writeNow();
+        assertThat(writes).hasValue(1);
+
+        state.set("second");
+        persistentFile.writeNow();
+        assertThat(writes).hasValue(2);
+
+        // a restored state does not need to be written again
+        state.set(persistentFile.restore(PersistentFile::readString).orElseThrow());
+        persistentFile.markWritten();
+        persistentFile.writeNow();
+        assertThat(writes).hasValue(2);
+    }
+
+    @Test
+    void missingCorruptOrOutdatedFileIsIgnored() throws IOException {
+        final Path file = directory.resolve("test.state");
+        final AtomicReference<String> state = new AtomicReference<>("first");
+
+        assertThat(persistentFile(file, 1, state).restore(PersistentFile::readString)).isEmpty();
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(persistentFile(file, 1, state).restore(PersistentFile::readString)).isEmpty();
+
+        persistentFile(file, 1, state).writeNow();
+        assertThat(persistentFile(file, 2, state).restore(PersistentFile::readString)).isEmpty();
+    }
+
+    private static PersistentFile<String> persistentFile(final Path file, final int formatVersion, final AtomicReference<String> state) {
+        return new PersistentFile<>(file, MAGIC, formatVersion, "test state", state::get, PersistentFile::writeString);
+    }
+}
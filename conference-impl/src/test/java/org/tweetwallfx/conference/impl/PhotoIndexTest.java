@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PhotoIndexTest {
+
+    private static final PhotoIndex.Entry ENTRY = new PhotoIndex.Entry(
+            "54870000000",
+            "72177720330000000",
+            null,
+            Instant.parse("2025-10-09T09:23:59Z"),
+            Instant.parse("2025-10-09T12:21:39Z"),
+            "https://live.staticflickr.com/65535/54870000000_c4608099f6_n.jpg",
+            "https://live.staticflickr.com/65535/54870000000_c4608099f6_l.jpg");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void entriesSurviveRoundTrip() {
+        final Path file = directory.resolve("cache").resolve("flickr-photos.index");
+        final PhotoIndex index = new PhotoIndex(file);
+        index.put(ENTRY);
+        index.putPhotosetState("72177720330000000", new PhotoIndex.PhotosetState(1, "1760000000"));
+        index.writeNow();
+
+        final PhotoIndex restored = new PhotoIndex(file);
+        assertThat(restored.restore()).isEqualTo(1);
+        assertThat(restored.contains("54870000000")).isTrue();
+        assertThat(restored.entries()).containsExactly(ENTRY);
+        assertThat(restored.photosetState("72177720330000000")).isEqualTo(new PhotoIndex.PhotosetState(1, "1760000000"));
+        assertThat(restored.entries().iterator().next().additionalData())
+                .containsEntry("dateAdded", "N/A")
+                .containsEntry("dateTaken", "2025-10-09T12:21:39Z")
+                .containsEntry(ImageCache.IMAGE_URL, ENTRY.imageUrl())
+                .containsEntry(ImageCache.HIGHLIGHT_IMAGE_URL, ENTRY.highlightImageUrl());
+    }
+
+    @Test
+    void storageDateFallsBackToDatePosted() {
+        final PhotoIndex.Entry undated = new PhotoIndex.Entry(
+                "54870000001", "72177720330000000", null, Instant.parse("2025-10-09T09:23:59Z"), null, ENTRY.imageUrl(), ENTRY.highlightImageUrl());
+
+        assertThat(ENTRY.storageDate()).isEqualTo(ENTRY.dateTaken());
+        assertThat(undated.storageDate()).isEqualTo(Instant.parse("2025-10-09T09:23:59Z"));
+    }
+
+    @Test
+    void photosetStateIsRestoredWithSkippedPhotos() {
+        final Path file = directory.resolve("flickr-photos.index");
+        final PhotoIndex index = new PhotoIndex(file);
+        index.put(ENTRY);
+        // second photo of the photoset skipped for lacking a usable size
+        index.putPhotosetState("72177720330000000", new PhotoIndex.PhotosetState(2, "1760000000"));
+        index.writeNow();
+
+        final PhotoIndex restored = new PhotoIndex(file);
+        assertThat(restored.restore()).isEqualTo(1);
+        assertThat(restored.photosetState("72177720330000000")).isEqualTo(new PhotoIndex.PhotosetState(2, "1760000000"));
+    }
+
+    @Test
+    void missingOrCorruptIndexIsIgnored() throws IOException {
+        final Path file = directory.resolve("flickr-photos.index");
+        final PhotoIndex index = new PhotoIndex(file);
+
+        assertThat(index.restore()).isZero();
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(index.restore()).isZero();
+        assertThat(index.entries()).isEmpty();
+    }
+}
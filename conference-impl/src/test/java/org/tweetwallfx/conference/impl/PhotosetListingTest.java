@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flickr4java.flickr.photosets.Photoset;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PhotosetListingTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void retainsUnchangedPhotosets() {
+        final PhotosetListing listing = new PhotosetListing(directory.resolve("flickr-photosets.listing"));
+        final Photoset monday = photoset("1", "Devoxx Belgium 2025 - Monday", 120, "1760000000");
+        listing.update(List.of(monday, photoset("2", "Devoxx Belgium 2025 - Tuesday", 80, "1760086400")));
+
+        final List<Photoset> updated = listing.update(List.of(
+                photoset("1", "Devoxx Belgium 2025 - Monday", 120, "1760000000"),
+                photoset("2", "Devoxx Belgium 2025 - Tuesday", 95, "1760090000")));
+
+        assertThat(updated.get(0)).isSameAs(monday);
+        assertThat(updated.get(1).getPhotoCount()).isEqualTo(95);
+    }
+
+    @Test
+    void listingSurvivesRestart() {
+        final Path file = directory.resolve("flickr-photosets.listing");
+        new PhotosetListing(file).update(List.of(photoset("1", "Devoxx Belgium 2025 - Monday", 120, "1760000000")));
+
+        final PhotosetListing restored = new PhotosetListing(file);
+
+        assertThat(restored.current(Duration.ofMinutes(1)).orElseThrow())
+                .singleElement()
+                .satisfies(p -> {
+                    assertThat(p.getId()).isEqualTo("1");
+                    assertThat(p.getTitle()).isEqualTo("Devoxx Belgium 2025 - Monday");
+                    assertThat(p.getPhotoCount()).isEqualTo(120);
+                    assertThat(p.getDateUpdate()).isEqualTo("1760000000");
+                });
+        assertThat(restored.current(Duration.ZERO)).isEmpty();
+        assertThat(restored.stale()).hasSize(1);
+    }
+
+    private static Photoset photoset(final String id, final String title, final int photoCount, final String dateUpdate) {
+        final Photoset photoset = new Photoset();
+        photoset.setId(id);
+        photoset.setTitle(title);
+        photoset.setPhotoCount(photoCount);
+        photoset.setDateUpdate(dateUpdate);
+        return photoset;
+    }
+}
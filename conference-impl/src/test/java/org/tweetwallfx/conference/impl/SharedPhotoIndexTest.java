@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedPhotoIndexTest {
+
+    private static final SharedPhotoIndex.Entry ENTRY = new SharedPhotoIndex.Entry(
+            "kX3vQ9pL2mZ8",
+            Instant.parse("2025-10-07T09:41:12Z"),
+            "https://storage.googleapis.com/devoxx-photo-sharing/kX3vQ9pL2mZ8.jpg",
+            17,
+            false);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void entriesSurviveRoundTrip() {
+        final Path file = directory.resolve("cache").resolve("devoxx-shared-photos.index");
+        final SharedPhotoIndex index = new SharedPhotoIndex(file);
+        index.put(ENTRY);
+        index.writeNow();
+
+        final SharedPhotoIndex restored = new SharedPhotoIndex(file);
+        assertThat(restored.restore()).isEqualTo(1);
+        assertThat(restored.contains("kX3vQ9pL2mZ8")).isTrue();
+        assertThat(restored.contains("unknown")).isFalse();
+        assertThat(restored.entries()).containsExactly(ENTRY);
+        assertThat(restored.get("kX3vQ9pL2mZ8")).contains(ENTRY);
+        assertThat(restored.mostLiked()).containsExactly(ENTRY);
+    }
+
+    @Test
+    void mostLikedFollowsUpdatesAndSkipsSpam() {
+        final SharedPhotoIndex index = new SharedPhotoIndex(directory.resolve("devoxx-shared-photos.index"));
+        final SharedPhotoIndex.Entry older = new SharedPhotoIndex.Entry(
+                "older", Instant.parse("2025-10-06T09:41:12Z"), "https://example.org/older.jpg", 17, false);
+        final SharedPhotoIndex.Entry spam = new SharedPhotoIndex.Entry(
+                "spam", Instant.parse("2025-10-07T10:41:12Z"), "https://example.org/spam.jpg", 99, true);
+        index.put(ENTRY);
+        index.put(older);
+        index.put(spam);
+
+        // equally liked photos are ordered newest first
+        assertThat(index.mostLiked()).containsExactly(ENTRY, older);
+
+        final SharedPhotoIndex.Entry moreLiked = new SharedPhotoIndex.Entry(
+                older.id(), older.createdAt(), older.url(), 18, false);
+        index.put(moreLiked);
+        assertThat(index.mostLiked()).containsExactly(moreLiked, ENTRY);
+
+        final SharedPhotoIndex.Entry flagged = new SharedPhotoIndex.Entry(
+                ENTRY.id(), ENTRY.createdAt(), ENTRY.url(), ENTRY.likes(), true);
+        index.put(flagged);
+        assertThat(index.mostLiked()).containsExactly(moreLiked);
+    }
+
+    @Test
+    void missingOrCorruptIndexIsIgnored() throws IOException {
+        final Path file = directory.resolve("devoxx-shared-photos.index");
+        final SharedPhotoIndex index = new SharedPhotoIndex(file);
+
+        assertThat(index.restore()).isZero();
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(index.restore()).isZero();
+        assertThat(index.entries()).isEmpty();
+        assertThat(index.mostLiked()).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.conference.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedPhotoUpdatesTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/events", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                out.write("event: photo\ndata: {\"id\":\"kX3vQ9pL2mZ8\"}\n\n".getBytes(StandardCharsets.UTF_8));
+                out.write("data: {\"id\":\"pR7wT1nB4cY6\"}\n\n".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/photos", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void eventsTriggerLoading() throws InterruptedException {
+        // once when connected and once per event carrying data
+        final CountDownLatch loads = new CountDownLatch(3);
+        final SharedPhotoUpdates updates = new SharedPhotoUpdates(
+                uri("/events"), Duration.ofMinutes(1), Duration.ofMinutes(5), () -> {
+                    loads.countDown();
+                    return 1;
+                });
+
+        updates.start();
+        try {
+            assertThat(loads.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(updates.isEventsSupported()).isTrue();
+        } finally {
+            updates.stop();
+        }
+    }
+
+    @Test
+    void pollsWithoutEvents() throws InterruptedException {
+        final CountDownLatch loads = new CountDownLatch(3);
+        final SharedPhotoUpdates updates = new SharedPhotoUpdates(
+                uri("/photos"), Duration.ofMillis(10), Duration.ofMillis(40), () -> {
+                    loads.countDown();
+                    return 0;
+                });
+
+        updates.start();
+        try {
+            assertThat(loads.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(updates.isEventsSupported()).isFalse();
+            assertThat(updates.pollInterval()).isGreaterThan(Duration.ofMillis(10));
+        } finally {
+            updates.stop();
+        }
+    }
+
+    @Test
+    void pollIntervalAdaptsToLoadedPhotos() {
+        final SharedPhotoUpdates updates = new SharedPhotoUpdates(
+                uri("/photos"), Duration.ofSeconds(10), Duration.ofSeconds(300), () -> 0);
+
+        updates.adaptPollInterval(0);
+        updates.adaptPollInterval(0);
+        assertThat(updates.pollInterval()).isEqualTo(Duration.ofSeconds(40));
+
+        for (int i = 0; i < 10; i++) {
+            updates.adaptPollInterval(0);
+        }
+        assertThat(updates.pollInterval()).isEqualTo(Duration.ofSeconds(300));
+
+        updates.adaptPollInterval(12);
+        assertThat(updates.pollInterval()).isEqualTo(Duration.ofSeconds(150));
+
+        for (int i = 0; i < 10; i++) {
+            updates.adaptPollInterval(3);
+        }
+        assertThat(updates.pollInterval()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path);
+    }
+}